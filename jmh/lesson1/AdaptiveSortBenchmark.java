@@ -0,0 +1,60 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Адаптивная сортировка естественными сериями против обычной сортировки слиянием
+ * на упорядоченных, обратных, пилообразных и случайных массивах.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="AdaptiveSortBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AdaptiveSortBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"SORTED", "REVERSED", "SAWTOOTH", "RANDOM"})
+    public Distribution distribution;
+
+    private int[] source;
+
+    private int[] elements;
+
+    @Setup
+    public void setUp() {
+        source = distribution.generate(size, new Random(42));
+        elements = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(source, 0, elements, 0, size);
+    }
+
+    @Benchmark
+    public int[] adaptiveSort() {
+        Sorts.adaptiveSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        Sorts.mergeSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] bottomUpMergeSort() {
+        Sorts.bottomUpMergeSort(elements);
+        return elements;
+    }
+}
@@ -0,0 +1,74 @@
+package lesson1;
+
+import java.util.Random;
+
+/**
+ * Распределения входных данных для бенчмарков сортировок. Все значения лежат в [0, size],
+ * чтобы сортировку подсчётом можно было сравнивать с остальными на тех же массивах.
+ */
+public enum Distribution {
+    RANDOM {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] elements = new int[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = random.nextInt(size + 1);
+            }
+            return elements;
+        }
+    },
+    SORTED {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] elements = new int[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = i;
+            }
+            return elements;
+        }
+    },
+    REVERSED {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] elements = new int[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = size - i;
+            }
+            return elements;
+        }
+    },
+    FEW_UNIQUE {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] elements = new int[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = random.nextInt(Math.min(size, 16) + 1);
+            }
+            return elements;
+        }
+    },
+    // Возрастающие серии по 1000 элементов
+    SAWTOOTH {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] elements = new int[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = i % 1000;
+            }
+            return elements;
+        }
+    },
+    // Возрастающая первая половина и убывающая вторая
+    ORGAN_PIPE {
+        @Override
+        int[] generate(int size, Random random) {
+            int[] elements = new int[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = Math.min(i, size - i);
+            }
+            return elements;
+        }
+    };
+
+    abstract int[] generate(int size, Random random);
+}
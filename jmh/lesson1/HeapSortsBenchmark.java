@@ -0,0 +1,72 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Варианты пирамидальной сортировки против прежней, с рекурсивным heapify (RecursiveHeapSort):
+ * итеративная просейка, просейка Флойда до листа и 4-арная куча.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="HeapSortsBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class HeapSortsBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    private int[] source;
+
+    private int[] elements;
+
+    @Setup
+    public void setUp() {
+        source = distribution.generate(size, new Random(42));
+        elements = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(source, 0, elements, 0, size);
+    }
+
+    @Benchmark
+    public int[] recursiveHeapSort() {
+        RecursiveHeapSort.heapSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        Sorts.heapSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] floydHeapSort() {
+        Sorts.floydHeapSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] quaternaryHeapSort() {
+        Sorts.quaternaryHeapSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinHeapSort() {
+        SortsKt.heapSort(elements);
+        return elements;
+    }
+}
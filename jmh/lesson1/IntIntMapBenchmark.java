@@ -0,0 +1,55 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Подсчёт частот чисел (как в JavaTasks.sortSequence): IntIntMap против HashMap<Integer, Integer>.
+ * Различных чисел в 20 раз меньше, чем всех.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="IntIntMapBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IntIntMapBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private int[] numbers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        numbers = new int[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = random.nextInt(size / 20) + 1;
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> hashMap() {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int number : numbers) {
+            counts.merge(number, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public IntIntMap intIntMap() {
+        IntIntMap counts = new IntIntMap();
+        for (int number : numbers) {
+            counts.addTo(number, 1);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,67 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабирование параллельных сортировок (Sorts.java и Sorts.kt) по числу потоков
+ * ForkJoinPool на массивах из 10^6 -- 10^8 случайных элементов.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="ParallelSortsBenchmark -p parallelism=1,2,4,8,16"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class ParallelSortsBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private int[] source;
+
+    private int[] elements;
+
+    @Setup
+    public void setUp() {
+        source = Distribution.RANDOM.generate(size, new Random(42));
+        elements = new int[size];
+    }
+
+    // Копия исходного массива вне измеряемого времени: на 10^8 элементов она заметна
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(source, 0, elements, 0, size);
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        Sorts.parallelMergeSort(elements, Sorts.PARALLEL_SORT_THRESHOLD, parallelism);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] parallelQuickSort() {
+        Sorts.parallelQuickSort(elements, Sorts.PARALLEL_SORT_THRESHOLD, parallelism);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinParallelMergeSort() {
+        SortsKt.parallelMergeSort(elements, SortsKt.PARALLEL_SORT_THRESHOLD, parallelism);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinParallelQuickSort() {
+        SortsKt.parallelQuickSort(elements, SortsKt.PARALLEL_SORT_THRESHOLD, parallelism);
+        return elements;
+    }
+}
@@ -0,0 +1,65 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поразрядная сортировка с готовым буфером против быстрой сортировки и Arrays.sort
+ * на случайных int во всём диапазоне значений.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="RadixSortBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RadixSortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private int[] source;
+
+    private int[] elements;
+
+    private int[] buffer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        source = new int[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        elements = new int[size];
+        buffer = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(source, 0, elements, 0, size);
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        Sorts.radixSort(elements, buffer);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        Sorts.quickSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] librarySort() {
+        Arrays.sort(elements);
+        return elements;
+    }
+}
@@ -0,0 +1,58 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Листовые сортировки коротких массивов: сортировка вставками против сортирующей сети.
+ * За одну операцию сортируется BLOCKS блоков длины size, чтобы предсказатель ветвлений
+ * не запоминал один и тот же вход.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SmallSortsBenchmark {
+    private static final int BLOCKS = 1024;
+
+    @Param({"4", "8", "12", "16"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED"})
+    public Distribution distribution;
+
+    private int[][] source;
+    private int[][] blocks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        source = new int[BLOCKS][];
+        blocks = new int[BLOCKS][size];
+        for (int b = 0; b < BLOCKS; b++) {
+            source[b] = distribution.generate(size, random);
+        }
+    }
+
+    @Benchmark
+    public int[][] insertionSort() {
+        for (int b = 0; b < BLOCKS; b++) {
+            System.arraycopy(source[b], 0, blocks[b], 0, size);
+            Sorts.insertionSort(blocks[b]);
+        }
+        return blocks;
+    }
+
+    @Benchmark
+    public int[][] networkSort() {
+        for (int b = 0; b < BLOCKS; b++) {
+            System.arraycopy(source[b], 0, blocks[b], 0, size);
+            Sorts.networkSort(blocks[b]);
+        }
+        return blocks;
+    }
+}
@@ -0,0 +1,143 @@
+package lesson1;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки сортировок lesson1 (Sorts.java и Sorts.kt) на массивах разной длины и формы.
+ * Каждая операция сортирует свежую копию исходного массива; стоимость копирования
+ * показывает бенчмарк copy. Параллельные сортировки -- в ParallelSortsBenchmark,
+ * варианты пирамидальной -- в HeapSortsBenchmark.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="SortsBenchmark -p size=100000"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SortsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private int[] source;
+
+    @Setup
+    public void setUp() {
+        source = distribution.generate(size, new Random(42));
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return source.clone();
+    }
+
+    @Benchmark
+    public int[] librarySort() {
+        int[] elements = source.clone();
+        Arrays.sort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        int[] elements = source.clone();
+        Sorts.mergeSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] bottomUpMergeSort() {
+        int[] elements = source.clone();
+        Sorts.bottomUpMergeSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] adaptiveSort() {
+        int[] elements = source.clone();
+        Sorts.adaptiveSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] heapSort() {
+        int[] elements = source.clone();
+        Sorts.heapSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        int[] elements = source.clone();
+        Sorts.quickSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] threeWayQuickSort() {
+        int[] elements = source.clone();
+        Sorts.threeWayQuickSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] dualPivotQuickSort() {
+        int[] elements = source.clone();
+        Sorts.dualPivotQuickSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] countingSort() {
+        return Sorts.countingSort(source, size);
+    }
+
+    @Benchmark
+    public int[] parallelCountingSort() {
+        int[] elements = source.clone();
+        Sorts.parallelCountingSort(elements, size);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] elements = source.clone();
+        Sorts.radixSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinMergeSort() {
+        int[] elements = source.clone();
+        SortsKt.mergeSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinHeapSort() {
+        int[] elements = source.clone();
+        SortsKt.heapSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinQuickSort() {
+        int[] elements = source.clone();
+        SortsKt.quickSort(elements);
+        return elements;
+    }
+
+    @Benchmark
+    public int[] kotlinCountingSort() {
+        return SortsKt.countingSort(source, size);
+    }
+}
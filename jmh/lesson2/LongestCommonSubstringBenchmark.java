@@ -0,0 +1,86 @@
+package lesson2;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Наибольшая общая подстрока: суффиксный массив против динамического программирования
+ * (последовательного по строкам таблицы и параллельного по диагоналям).
+ * Вторая строка -- копия первой, в которой изменён каждый сотый символ (как при сравнении
+ * версий документа). Квадратичное программирование измеряется только на коротких строках.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="LongestCommonSubstringBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LongestCommonSubstringBenchmark {
+
+    private static String[] documents(int length) {
+        Random random = new Random(42);
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = (char) ('a' + random.nextInt(26));
+        }
+        String first = new String(text);
+        for (int i = 0; i < length / 100; i++) {
+            text[random.nextInt(length)] = (char) ('a' + random.nextInt(26));
+        }
+        return new String[] { first, new String(text) };
+    }
+
+    @State(Scope.Benchmark)
+    public static class ShortInput {
+        @Param({"10000", "100000"})
+        public int length;
+
+        String first, second;
+
+        @Setup
+        public void setUp() {
+            String[] documents = documents(length);
+            first = documents[0];
+            second = documents[1];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LongInput {
+        @Param({"10000", "100000", "1000000"})
+        public int length;
+
+        String first, second;
+
+        @Setup
+        public void setUp() {
+            String[] documents = documents(length);
+            first = documents[0];
+            second = documents[1];
+        }
+    }
+
+    @Benchmark
+    public String dynamicProgramming(ShortInput input) {
+        return JavaAlgorithms.longestCommonSubstringDp(input.first, input.second);
+    }
+
+    @Benchmark
+    public String parallelDynamicProgramming(ShortInput input) {
+        return JavaAlgorithms.longestCommonSubstringParallel(input.first, input.second);
+    }
+
+    @Benchmark
+    public String suffixArray(LongInput input) {
+        return JavaAlgorithms.longestCommonSubstring(input.first, input.second);
+    }
+
+    @Benchmark
+    public String rollingHash(LongInput input) {
+        return JavaAlgorithms.longestCommonSubstring(List.of(input.first, input.second));
+    }
+}
@@ -0,0 +1,33 @@
+package lesson2;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сегментированное решето против метода Lucy_Hedgehog на разных limit: по результатам
+ * выбирается JavaAlgorithms.PRIME_COUNTING_THRESHOLD.
+ * <p>
+ * Запуск: gradlew jmh -PjmhArgs="PrimeCountingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PrimeCountingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000", "1000000000"})
+    public long limit;
+
+    @Benchmark
+    public long sieve() {
+        return PrimeSieve.count(limit);
+    }
+
+    @Benchmark
+    public long lucyHedgehog() {
+        return PrimeCounting.count(limit);
+    }
+}
@@ -0,0 +1,179 @@
+package lesson1;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Сортировка адресов для JavaTasks.sortAddresses.
+ * <p>
+ * Улицы, фамилии и имена заменяются номерами в словарях, так что каждая различная строка
+ * хранится один раз, а на жителя приходится четыре int. После чтения номера заменяются
+ * рангами строк в алфавитном порядке, и каждая запись упаковывается в один long-ключ
+ * (улица, дом, фамилия, имя). Ключи сортируются поразрядной сортировкой, после чего
+ * жители одного дома выводятся одной строкой за один проход.
+ */
+class AddressSorter {
+
+    private static final String SEPARATOR = " - ";
+
+    // Словарь строк: номер выдаётся в порядке первого появления
+    private static class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        // Строки в алфавитном порядке; rank[id] -- позиция строки с номером id в этом порядке
+        String[] sorted(int[] rank) {
+            String[] sorted = values.toArray(new String[0]);
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                rank[ids.get(sorted[i])] = i;
+            }
+            return sorted;
+        }
+    }
+
+    static void sort(String inputName, String outputName) throws IOException {
+        Dictionary streets = new Dictionary(), surnames = new Dictionary(), names = new Dictionary();
+        // Четвёрки (улица, дом, фамилия, имя) в номерах словарей
+        int[] records = new int[64];
+        int size = 0;
+        int maxHouse = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(inputName), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                int separator = line.indexOf(SEPARATOR);
+                int space = line.indexOf(' ');
+                int houseSpace = line.lastIndexOf(' ');
+                if (separator < 0 || space <= 0 || space + 1 >= separator ||
+                        line.indexOf(' ', space + 1) != separator ||
+                        houseSpace <= separator + SEPARATOR.length()) {
+                    throw new IllegalArgumentException("Wrong address format: " + line);
+                }
+                int house = parseHouse(line, houseSpace + 1);
+                maxHouse = Math.max(maxHouse, house);
+                if (size + 4 > records.length) {
+                    records = Arrays.copyOf(records, records.length * 2);
+                }
+                records[size++] = streets.id(line.substring(separator + SEPARATOR.length(), houseSpace));
+                records[size++] = house;
+                records[size++] = surnames.id(line.substring(0, space));
+                records[size++] = names.id(line.substring(space + 1, separator));
+            }
+        }
+        int count = size / 4;
+
+        int[] streetRank = new int[streets.size()];
+        int[] surnameRank = new int[surnames.size()];
+        int[] nameRank = new int[names.size()];
+        String[] sortedStreets = streets.sorted(streetRank);
+        String[] sortedSurnames = surnames.sorted(surnameRank);
+        String[] sortedNames = names.sorted(nameRank);
+
+        int streetBits = bits(streets.size() - 1);
+        int houseBits = bits(maxHouse);
+        int nameBits = bits(names.size() - 1);
+        int personBits = bits(surnames.size() - 1) + nameBits;
+        // Если четыре поля не помещаются в ключ, пары (фамилия, имя) заменяются своими рангами
+        long[] persons = null;
+        if (streetBits + houseBits + personBits > 63) {
+            persons = new long[count];
+            for (int i = 0; i < count; i++) {
+                persons[i] = (long) surnameRank[records[4 * i + 2]] << 32 | nameRank[records[4 * i + 3]];
+            }
+            Sorts.radixSort(persons);
+            int unique = 0;
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || persons[i] != persons[unique - 1]) persons[unique++] = persons[i];
+            }
+            persons = Arrays.copyOf(persons, unique);
+            personBits = bits(unique - 1);
+            if (streetBits + houseBits + personBits > 63) {
+                throw new IllegalArgumentException("Too many distinct addresses in " + inputName);
+            }
+        }
+
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long surname = surnameRank[records[4 * i + 2]];
+            long name = nameRank[records[4 * i + 3]];
+            long person = persons == null
+                    ? surname << nameBits | name
+                    : Arrays.binarySearch(persons, surname << 32 | name);
+            long address = (long) streetRank[records[4 * i]] << houseBits | records[4 * i + 1];
+            keys[i] = address << personBits | person;
+        }
+        records = null;
+        Sorts.radixSort(keys);
+
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(outputName), StandardCharsets.UTF_8))) {
+            long previous = -1;
+            for (long key : keys) {
+                long address = key >>> personBits;
+                long person = key & mask(personBits);
+                if (address != previous) {
+                    if (previous >= 0) writer.write('\n');
+                    writer.write(sortedStreets[(int) (address >>> houseBits)]);
+                    writer.write(' ');
+                    writer.write(Long.toString(address & mask(houseBits)));
+                    writer.write(SEPARATOR);
+                    previous = address;
+                } else {
+                    writer.write(", ");
+                }
+                if (persons != null) {
+                    person = persons[(int) person];
+                    writer.write(sortedSurnames[(int) (person >>> 32)]);
+                    writer.write(' ');
+                    writer.write(sortedNames[(int) person]);
+                } else {
+                    writer.write(sortedSurnames[(int) (person >>> nameBits)]);
+                    writer.write(' ');
+                    writer.write(sortedNames[(int) (person & mask(nameBits))]);
+                }
+            }
+            if (previous >= 0) writer.write('\n');
+        }
+    }
+
+    private static int parseHouse(String line, int from) {
+        if (from == line.length() || line.length() - from > 9) {
+            throw new IllegalArgumentException("Wrong house number: " + line);
+        }
+        int house = 0;
+        for (int i = from; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Wrong house number: " + line);
+            }
+            house = house * 10 + (c - '0');
+        }
+        return house;
+    }
+
+    // Число бит, нужное для значений 0..max
+    private static int bits(long max) {
+        return 64 - Long.numberOfLeadingZeros(Math.max(max, 0));
+    }
+
+    private static long mask(int bits) {
+        return (1L << bits) - 1;
+    }
+}
@@ -0,0 +1,172 @@
+package lesson1;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Внешняя сортировка строк текстового файла.
+ * <p>
+ * Файл читается кусками, каждый кусок занимает в куче не больше memoryBudget байт (по оценке),
+ * сортируется в памяти и сбрасывается во временный файл-серию. Затем серии сливаются
+ * k-путевым слиянием через очередь с приоритетом; если серий больше, чем помещается
+ * буферов чтения в бюджет, слияние идёт в несколько проходов.
+ * <p>
+ * Сортировка устойчива: равные по comparator строки остаются в исходном порядке.
+ */
+public class ExternalSort {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Примерная цена буфера чтения в байтах: char[] BufferedReader и байтовый буфер декодера
+    private static final int READER_COST = 3 * BUFFER_SIZE;
+
+    // Примерные накладные расходы на строку: заголовки String и byte[], ссылка в списке
+    private static final int LINE_OVERHEAD = 64;
+
+    private final Comparator<String> comparator;
+    private final long memoryBudget;
+    private final File tempDirectory;
+
+    public ExternalSort(Comparator<String> comparator, long memoryBudget) {
+        this(comparator, memoryBudget, null);
+    }
+
+    /**
+     * @param tempDirectory каталог для временных серий, null -- системный каталог
+     */
+    public ExternalSort(Comparator<String> comparator, long memoryBudget, File tempDirectory) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudget);
+        }
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+    }
+
+    public void sort(String inputName, String outputName) throws IOException {
+        List<File> temps = new ArrayList<>();
+        try {
+            List<File> runs = new ArrayList<>();
+            List<String> lines = new ArrayList<>();
+            long used = 0;
+            try (BufferedReader reader = reader(new File(inputName))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                    used += 2L * line.length() + LINE_OVERHEAD;
+                    if (used >= memoryBudget) {
+                        runs.add(spill(lines, temps));
+                        lines.clear();
+                        used = 0;
+                    }
+                }
+            }
+            lines.sort(comparator);
+            if (runs.isEmpty()) {
+                try (BufferedWriter writer = writer(new File(outputName))) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+                return;
+            }
+            if (!lines.isEmpty()) {
+                runs.add(spill(lines, temps));
+            }
+            lines = null;
+            int fanIn = (int) Math.max(2, Math.min(Integer.MAX_VALUE, memoryBudget / READER_COST - 1));
+            while (runs.size() > fanIn) {
+                List<File> merged = new ArrayList<>();
+                for (int begin = 0; begin < runs.size(); begin += fanIn) {
+                    List<File> group = runs.subList(begin, Math.min(begin + fanIn, runs.size()));
+                    if (group.size() == 1) {
+                        merged.add(group.get(0));
+                        continue;
+                    }
+                    File out = createTemp(temps);
+                    merge(group, out);
+                    for (File run : group) {
+                        run.delete();
+                    }
+                    merged.add(out);
+                }
+                runs = merged;
+            }
+            merge(runs, new File(outputName));
+        } finally {
+            for (File temp : temps) {
+                temp.delete();
+            }
+        }
+    }
+
+    private File spill(List<String> lines, List<File> temps) throws IOException {
+        lines.sort(comparator);
+        File run = createTemp(temps);
+        try (BufferedWriter writer = writer(run)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        return run;
+    }
+
+    private File createTemp(List<File> temps) throws IOException {
+        File temp = tempDirectory == null
+                ? Files.createTempFile("run", ".txt").toFile()
+                : Files.createTempFile(tempDirectory.toPath(), "run", ".txt").toFile();
+        temps.add(temp);
+        return temp;
+    }
+
+    // Голова серии: текущая строка и номер серии, по которому разрешаются равенства
+    private static class Run {
+        final BufferedReader reader;
+        final int index;
+        String line;
+
+        Run(BufferedReader reader, int index) {
+            this.reader = reader;
+            this.index = index;
+        }
+    }
+
+    private void merge(List<File> runs, File output) throws IOException {
+        PriorityQueue<Run> heap = new PriorityQueue<>(runs.size(), (a, b) -> {
+            int result = comparator.compare(a.line, b.line);
+            return result != 0 ? result : Integer.compare(a.index, b.index);
+        });
+        List<BufferedReader> readers = new ArrayList<>();
+        try (BufferedWriter writer = writer(output)) {
+            for (int i = 0; i < runs.size(); i++) {
+                BufferedReader reader = reader(runs.get(i));
+                readers.add(reader);
+                Run run = new Run(reader, i);
+                run.line = reader.readLine();
+                if (run.line != null) heap.add(run);
+            }
+            while (!heap.isEmpty()) {
+                Run run = heap.poll();
+                writer.write(run.line);
+                writer.write('\n');
+                run.line = run.reader.readLine();
+                if (run.line != null) heap.add(run);
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static BufferedReader reader(File file) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static BufferedWriter writer(File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,141 @@
+package lesson1;
+
+import java.util.Arrays;
+
+/**
+ * Хеш-таблица int -> int с открытой адресацией и линейным пробированием.
+ * <p>
+ * Ключи и значения хранятся в двух массивах int без упаковки. Пустая ячейка обозначается
+ * ключом 0, поэтому сам ключ 0 хранится отдельно. Ёмкость -- степень двойки,
+ * таблица удваивается, когда заполняется наполовину. Удаление не поддерживается.
+ */
+public class IntIntMap {
+
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private int[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int size = 0;
+
+    private boolean hasZeroKey = false;
+
+    private int zeroValue = 0;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2 * expectedSize - 1, 2)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int startingIndex(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+        for (int index = startingIndex(key); keys[index] != 0; index = (index + 1) & mask) {
+            if (keys[index] == key) return values[index];
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) return hasZeroKey;
+        for (int index = startingIndex(key); keys[index] != 0; index = (index + 1) & mask) {
+            if (keys[index] == key) return true;
+        }
+        return false;
+    }
+
+    public void put(int key, int value) {
+        if (key == 0) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int index = indexForInsert(key);
+        values[index] = value;
+    }
+
+    /**
+     * Прибавляет delta к значению по ключу key (отсутствующий ключ считается равным 0)
+     * за один поиск в таблице. Возвращает новое значение.
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            return zeroValue += delta;
+        }
+        int index = indexForInsert(key);
+        return values[index] += delta;
+    }
+
+    // Ячейка ключа key; если ключа нет, он вставляется со значением 0
+    private int indexForInsert(int key) {
+        int index = startingIndex(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) return index;
+            index = (index + 1) & mask;
+        }
+        if (2 * (size + 1) > keys.length) {
+            grow();
+            return indexForInsert(key);
+        }
+        keys[index] = key;
+        values[index] = 0;
+        size++;
+        return index;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys, oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key == 0) continue;
+            int index = startingIndex(key);
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = oldValues[i];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+    }
+
+    /**
+     * Обход всех пар в порядке ячеек таблицы
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) consumer.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) consumer.accept(keys[i], values[i]);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package lesson1;
 
-import kotlin.NotImplementedError;
-
 import java.io.*;
-import java.util.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 @SuppressWarnings("unused")
 public class JavaTasks {
@@ -37,8 +39,93 @@ public class JavaTasks {
      * <p>
      * В случае обнаружения неверного формата файла бросить любое исключение.
      */
-    static public void sortTimes(String inputName, String outputName) {
-        throw new NotImplementedError();
+    // R = O(1) 86400 счётчиков, по одному на секунду суток
+    // T = O(N) один проход по байтам файла, затем проход по счётчикам
+    static public void sortTimes(String inputName, String outputName) throws IOException {
+        int[] count = countTimes(inputName);
+        writeCounts(count, JavaTasks::formatTime, outputName);
+    }
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int TIME_LENGTH = "12:00:00 AM".length();
+
+    /**
+     * Разбор времён ЧЧ:ММ:СС AM/PM прямо из байтов отображённого в память файла
+     * в номер секунды суток. Байты строки копируются в маленький массив,
+     * чтобы строка могла переходить через границу окна отображения.
+     */
+    private static int[] countTimes(String inputName) throws IOException {
+        int[] count = new int[SECONDS_PER_DAY];
+        try (FileChannel channel = FileChannel.open(Paths.get(inputName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[] line = new byte[TIME_LENGTH];
+            int length = 0;
+            for (long position = 0; position < size; position += MAPPED_WINDOW) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAPPED_WINDOW, size - position));
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b == '\n' || b == '\r') {
+                        if (length > 0) {
+                            count[parseTime(line, length, inputName)]++;
+                            length = 0;
+                        }
+                    } else if (length < TIME_LENGTH) {
+                        line[length++] = b;
+                    } else {
+                        throw new IllegalArgumentException("Wrong time format in " + inputName);
+                    }
+                }
+            }
+            if (length > 0) {
+                count[parseTime(line, length, inputName)]++;
+            }
+        }
+        return count;
+    }
+
+    private static int parseTime(byte[] line, int length, String inputName) {
+        if (length != TIME_LENGTH || line[2] != ':' || line[5] != ':' || line[8] != ' ' || line[10] != 'M' ||
+                (line[9] != 'A' && line[9] != 'P')) {
+            throw new IllegalArgumentException("Wrong time format in " + inputName);
+        }
+        int hours = twoDigits(line, 0, inputName);
+        int minutes = twoDigits(line, 3, inputName);
+        int seconds = twoDigits(line, 6, inputName);
+        if (hours < 1 || hours > 12 || minutes > 59 || seconds > 59) {
+            throw new IllegalArgumentException("Wrong time format in " + inputName);
+        }
+        hours %= 12;
+        if (line[9] == 'P') hours += 12;
+        return (hours * 60 + minutes) * 60 + seconds;
+    }
+
+    private static int twoDigits(byte[] line, int from, String inputName) {
+        int high = line[from] - '0', low = line[from + 1] - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            throw new IllegalArgumentException("Wrong time format in " + inputName);
+        }
+        return high * 10 + low;
+    }
+
+    // Записывает секунду суток как "07:26:57 AM\n", возвращает длину
+    private static int formatTime(int second, byte[] line) {
+        int hours = second / 3600;
+        int minutes = second / 60 % 60;
+        int hours12 = hours % 12 == 0 ? 12 : hours % 12;
+        line[0] = (byte) ('0' + hours12 / 10);
+        line[1] = (byte) ('0' + hours12 % 10);
+        line[2] = ':';
+        line[3] = (byte) ('0' + minutes / 10);
+        line[4] = (byte) ('0' + minutes % 10);
+        line[5] = ':';
+        line[6] = (byte) ('0' + second % 60 / 10);
+        line[7] = (byte) ('0' + second % 10);
+        line[8] = ' ';
+        line[9] = (byte) (hours < 12 ? 'A' : 'P');
+        line[10] = 'M';
+        line[11] = '\n';
+        return TIME_LENGTH + 1;
     }
 
     /**
@@ -67,8 +154,10 @@ public class JavaTasks {
      * <p>
      * В случае обнаружения неверного формата файла бросить любое исключение.
      */
-    static public void sortAddresses(String inputName, String outputName) {
-        throw new NotImplementedError();
+    // R = O(N) четыре int на жителя плюс различные строки
+    // T = O(N + K log K) K различных строк сортируются, N ключей -- поразрядной сортировкой
+    static public void sortAddresses(String inputName, String outputName) throws IOException {
+        AddressSorter.sort(inputName, outputName);
     }
 
     /**
@@ -101,22 +190,135 @@ public class JavaTasks {
      * 99.5
      * 121.3
      */
-    // R = O(N) Количество строк в файле
-    // T = O(N) 1 цикл While перебирающий N строк, countingSort с O(N), 1 цикл for O(N) => O(N)
+    // R = O(1) 7731 счётчик на все возможные температуры
+    // T = O(N) один проход по байтам файла, затем проход по счётчикам
     static public void sortTemperatures(String inputName, String outputName) throws IOException {
-        List<Integer> result = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(inputName))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                result.add((int) ((Double.parseDouble(line) * 10 + 3000)));
+        int[] count = countTemperatures(inputName);
+        writeCounts(count, (bucket, line) -> formatTemperature(bucket - TEMPERATURE_OFFSET, line), outputName);
+    }
+
+    // Температуры хранятся в десятых долях градуса: -273.0 -> 0, 500.0 -> 7730
+    private static final int TEMPERATURE_OFFSET = 2730;
+    private static final int TEMPERATURE_BUCKETS = 7731;
+    private static final long MAPPED_WINDOW = 1L << 26;
+
+    /**
+     * Разбор файла температур прямо из байтов отображённого в память файла.
+     * Файл отображается окнами по MAPPED_WINDOW байт, состояние разбора строки
+     * переносится через границу окна, поэтому список строк не создаётся никогда.
+     */
+    private static int[] countTemperatures(String inputName) throws IOException {
+        int[] count = new int[TEMPERATURE_BUCKETS];
+        try (FileChannel channel = FileChannel.open(Paths.get(inputName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            // state: 0 -- начало строки, 1 -- целая часть, 2 -- после точки, 3 -- после десятых
+            int state = 0;
+            boolean negative = false;
+            int value = 0;
+            int digits = 0;
+            for (long position = 0; position < size; position += MAPPED_WINDOW) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAPPED_WINDOW, size - position));
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b == '\n' || b == '\r') {
+                        if (state == 3) {
+                            count[temperatureBucket(negative, value)]++;
+                        } else if (state != 0) {
+                            throw new IllegalArgumentException("Wrong temperature format in " + inputName);
+                        }
+                        state = 0;
+                        negative = false;
+                        value = 0;
+                        digits = 0;
+                    } else if (b == '-' && state == 0) {
+                        negative = true;
+                        state = 1;
+                    } else if (b >= '0' && b <= '9' && state <= 1 && digits < 3) {
+                        value = value * 10 + (b - '0');
+                        digits++;
+                        state = 1;
+                    } else if (b == '.' && state == 1 && digits > 0) {
+                        state = 2;
+                    } else if (b >= '0' && b <= '9' && state == 2) {
+                        value = value * 10 + (b - '0');
+                        state = 3;
+                    } else {
+                        throw new IllegalArgumentException("Wrong temperature format in " + inputName);
+                    }
+                }
+            }
+            if (state == 3) {
+                count[temperatureBucket(negative, value)]++;
+            } else if (state != 0) {
+                throw new IllegalArgumentException("Wrong temperature format in " + inputName);
             }
         }
-        int[] ar = Sorts.countingSort((result.stream().mapToInt(t -> t).toArray()), 8000);
-        try (FileWriter writer = new FileWriter(outputName)) {
-            for (int value : ar) {
-                writer.write(((value - 3000.0) / 10.0) + "\n");
+        return count;
+    }
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+    // Переводит номер корзины в байты строки вывода (вместе с переводом строки), возвращает длину
+    private interface BucketFormatter {
+        int format(int bucket, byte[] line);
+    }
+
+    /**
+     * Вывод по счётчикам: каждое различное значение переводится в байты один раз
+     * и копируется в прямой ByteBuffer столько раз, сколько оно встретилось.
+     * Заполненный буфер сбрасывается в FileChannel целиком.
+     */
+    private static void writeCounts(int[] count, BucketFormatter formatter, String outputName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(outputName), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+            byte[] line = new byte[16];
+            for (int bucket = 0; bucket < count.length; bucket++) {
+                if (count[bucket] == 0) continue;
+                int length = formatter.format(bucket, line);
+                for (int i = 0; i < count[bucket]; i++) {
+                    if (buffer.remaining() < length) {
+                        flush(buffer, channel);
+                    }
+                    buffer.put(line, 0, length);
+                }
             }
+            flush(buffer, channel);
+        }
+    }
+
+    // Записывает температуру value (в десятых градуса) как "-12.6\n", возвращает длину
+    private static int formatTemperature(int value, byte[] line) {
+        int length = 0;
+        if (value < 0) {
+            line[length++] = '-';
+            value = -value;
         }
+        int whole = value / 10;
+        if (whole >= 100) line[length++] = (byte) ('0' + whole / 100);
+        if (whole >= 10) line[length++] = (byte) ('0' + whole / 10 % 10);
+        line[length++] = (byte) ('0' + whole % 10);
+        line[length++] = '.';
+        line[length++] = (byte) ('0' + value % 10);
+        line[length++] = '\n';
+        return length;
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int temperatureBucket(boolean negative, int value) {
+        int bucket = (negative ? -value : value) + TEMPERATURE_OFFSET;
+        if (bucket < 0 || bucket >= TEMPERATURE_BUCKETS) {
+            throw new IllegalArgumentException("Temperature out of range: " + (bucket - TEMPERATURE_OFFSET) / 10.0);
+        }
+        return bucket;
     }
 
 
@@ -149,41 +351,107 @@ public class JavaTasks {
      * 2
      * 2
      */
+    // Два прохода по файлу: первый считает частоты, второй выводит числа, кроме самого частого.
+    // Сама последовательность в памяти не хранится.
     //T = O(N)
-    //R = O(N)
+    //R = O(K) K -- количество различных чисел
     static public void sortSequence(String inputName, String outputName) throws IOException {
-        Map<Integer, Integer> result = new HashMap<>();
-        List<Integer> values = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(inputName))) {
-            String line;
-            while ((line = br.readLine()) != null) {                             //O(N)
-                Integer key = Integer.valueOf(line);
-                result.put(key, result.containsKey(key) ? result.get(key) + 1 : 1);
-                values.add(key);
-            }
-        }
-        try (FileWriter writer = new FileWriter(outputName)) {
-            if (values.isEmpty()) return;
-
-            Integer max = result.values().stream().max(Integer::compare).get();
-            Set<Map.Entry<Integer, Integer>> entrySet = result.entrySet();
-            List<Integer> keys = new ArrayList<>();
-
-            for (Map.Entry<Integer, Integer> pair : entrySet) {                   //O(N)
-                if (max.equals(pair.getValue())) {
-                    keys.add(pair.getKey());
+        IntIntMap counts = new IntIntMap();
+        forEachNumber(inputName, value -> counts.addTo(value, 1));             //O(N)
+        try (FileChannel channel = FileChannel.open(Paths.get(outputName), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (counts.size() == 0) return;
+
+            // best[0] -- самое частое число (наименьшее из равных), best[1] -- его количество
+            int[] best = new int[] { 0, 0 };
+            counts.forEach((key, count) -> {                                      //O(K)
+                if (count > best[1] || count == best[1] && key < best[0]) {
+                    best[0] = key;
+                    best[1] = count;
                 }
+            });
+            int min = best[0];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+            byte[] line = new byte[16];
+            forEachNumber(inputName, value -> {                                   //O(N)
+                if (value != min) writeNumber(value, line, buffer, channel);
+            });
+            for (int i = 0; i < best[1]; i++) {                                   //O(N)
+                writeNumber(min, line, buffer, channel);
             }
-            int min = keys.stream().min(Integer::compare).get();
-            for (int value : values) {                                            //O(N)
-                if (value != min) writer.write(value + "\n");
+            flush(buffer, channel);
+        }
+    }
+
+    private interface NumberConsumer {
+        void accept(int value) throws IOException;
+    }
+
+    /**
+     * Разбор файла с целым числом в каждой строке прямо из байтов отображённого в память файла
+     */
+    private static void forEachNumber(String inputName, NumberConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(inputName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            boolean negative = false;
+            long value = 0;
+            int digits = 0;
+            for (long position = 0; position < size; position += MAPPED_WINDOW) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAPPED_WINDOW, size - position));
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b >= '0' && b <= '9') {
+                        value = value * 10 + (b - '0');
+                        if (++digits > 10 || value > Integer.MAX_VALUE + 1L) {
+                            throw new IllegalArgumentException("Number is too large in " + inputName);
+                        }
+                    } else if (b == '-' && digits == 0 && !negative) {
+                        negative = true;
+                    } else if ((b == '\n' || b == '\r') && (digits > 0 || !negative)) {
+                        if (digits > 0) {
+                            consumer.accept(toInt(negative, value, inputName));
+                        }
+                        negative = false;
+                        value = 0;
+                        digits = 0;
+                    } else {
+                        throw new IllegalArgumentException("Wrong number format in " + inputName);
+                    }
+                }
             }
-            for (int i = 0; i < max; i++) {                                       //O(N)
-                writer.write(min + "\n");
+            if (digits > 0) {
+                consumer.accept(toInt(negative, value, inputName));
+            } else if (negative) {
+                throw new IllegalArgumentException("Wrong number format in " + inputName);
             }
         }
     }
 
+    private static int toInt(boolean negative, long value, String inputName) {
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Number is too large in " + inputName);
+        }
+        return (int) value;
+    }
+
+    private static void writeNumber(int value, byte[] line, ByteBuffer buffer, FileChannel channel)
+            throws IOException {
+        int length = line.length;
+        line[--length] = '\n';
+        long rest = Math.abs((long) value);
+        do {
+            line[--length] = (byte) ('0' + rest % 10);
+            rest /= 10;
+        } while (rest > 0);
+        if (value < 0) line[--length] = '-';
+        if (buffer.remaining() < line.length - length) {
+            flush(buffer, channel);
+        }
+        buffer.put(line, length, line.length - length);
+    }
+
     /**
      * Соединить два отсортированных массива в один
      * <p>
@@ -198,7 +466,181 @@ public class JavaTasks {
      * <p>
      * Результат: second = [1 3 4 9 9 13 15 20 23 28]
      */
+    // Слияние на место слева направо: позиция записи k = i + (j - first.length) никогда не обгоняет
+    // непрочитанную часть second, поэтому дополнительная память не нужна. Если одна сторона выигрывает
+    // MIN_GALLOP раз подряд, её серия находится экспоненциальным поиском и копируется целиком,
+    // так что вставка m элементов в массив из n стоит O(m log n) сравнений.
+    //T = O(N)
+    //R = O(1)
     static <T extends Comparable<T>> void mergeArrays(T[] first, T[] second) {
-        throw new NotImplementedError();
+        int m = first.length;
+        if (second.length < m) {
+            throw new IllegalArgumentException("Second array is shorter than the first one");
+        }
+        int i = 0, j = m, k = 0;
+        int firstWins = 0, secondWins = 0;
+        while (i < m && j < second.length) {
+            if (second[j].compareTo(first[i]) < 0) {
+                second[k++] = second[j++];
+                firstWins = 0;
+                if (++secondWins >= MIN_GALLOP && j < second.length) {
+                    int count = gallop(second, first[i], j, second.length, false) - j;
+                    System.arraycopy(second, j, second, k, count);
+                    j += count;
+                    k += count;
+                    secondWins = 0;
+                }
+            } else {
+                second[k++] = first[i++];
+                secondWins = 0;
+                if (++firstWins >= MIN_GALLOP && i < m) {
+                    int count = gallop(first, second[j], i, m, true) - i;
+                    System.arraycopy(first, i, second, k, count);
+                    i += count;
+                    k += count;
+                    firstWins = 0;
+                }
+            }
+        }
+        System.arraycopy(first, i, second, k, m - i);
+    }
+
+    // Наименьший p из [begin, end), для которого elements[p] больше key (не меньше key, если strict = false),
+    // или end, если такого нет. Шаги вперёд от begin растут вдвое, затем бинарный поиск.
+    private static <T extends Comparable<T>> int gallop(T[] elements, T key, int begin, int end, boolean strict) {
+        int left = begin, right = end;
+        for (int step = 1; begin + step - 1 < end; step <<= 1) {
+            int probe = begin + step - 1;
+            if (strict ? elements[probe].compareTo(key) > 0 : elements[probe].compareTo(key) >= 0) {
+                right = probe;
+                break;
+            }
+            left = probe + 1;
+        }
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (strict ? elements[middle].compareTo(key) > 0 : elements[middle].compareTo(key) >= 0) {
+                right = middle;
+            } else {
+                left = middle + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * То же для int: первые first.length ячеек second свободны, остальные отсортированы
+     */
+    static void mergeArrays(int[] first, int[] second) {
+        int m = first.length;
+        if (second.length < m) {
+            throw new IllegalArgumentException("Second array is shorter than the first one");
+        }
+        int i = 0, j = m, k = 0;
+        int firstWins = 0, secondWins = 0;
+        while (i < m && j < second.length) {
+            if (second[j] < first[i]) {
+                second[k++] = second[j++];
+                firstWins = 0;
+                if (++secondWins >= MIN_GALLOP && j < second.length) {
+                    int count = gallop(second, first[i], j, second.length, false) - j;
+                    System.arraycopy(second, j, second, k, count);
+                    j += count;
+                    k += count;
+                    secondWins = 0;
+                }
+            } else {
+                second[k++] = first[i++];
+                secondWins = 0;
+                if (++firstWins >= MIN_GALLOP && i < m) {
+                    int count = gallop(first, second[j], i, m, true) - i;
+                    System.arraycopy(first, i, second, k, count);
+                    i += count;
+                    k += count;
+                    firstWins = 0;
+                }
+            }
+        }
+        System.arraycopy(first, i, second, k, m - i);
     }
+
+    private static int gallop(int[] elements, int key, int begin, int end, boolean strict) {
+        int left = begin, right = end;
+        for (int step = 1; begin + step - 1 < end; step <<= 1) {
+            int probe = begin + step - 1;
+            if (strict ? elements[probe] > key : elements[probe] >= key) {
+                right = probe;
+                break;
+            }
+            left = probe + 1;
+        }
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (strict ? elements[middle] > key : elements[middle] >= key) {
+                right = middle;
+            } else {
+                left = middle + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * То же для long: первые first.length ячеек second свободны, остальные отсортированы
+     */
+    static void mergeArrays(long[] first, long[] second) {
+        int m = first.length;
+        if (second.length < m) {
+            throw new IllegalArgumentException("Second array is shorter than the first one");
+        }
+        int i = 0, j = m, k = 0;
+        int firstWins = 0, secondWins = 0;
+        while (i < m && j < second.length) {
+            if (second[j] < first[i]) {
+                second[k++] = second[j++];
+                firstWins = 0;
+                if (++secondWins >= MIN_GALLOP && j < second.length) {
+                    int count = gallop(second, first[i], j, second.length, false) - j;
+                    System.arraycopy(second, j, second, k, count);
+                    j += count;
+                    k += count;
+                    secondWins = 0;
+                }
+            } else {
+                second[k++] = first[i++];
+                secondWins = 0;
+                if (++firstWins >= MIN_GALLOP && i < m) {
+                    int count = gallop(first, second[j], i, m, true) - i;
+                    System.arraycopy(first, i, second, k, count);
+                    i += count;
+                    k += count;
+                    firstWins = 0;
+                }
+            }
+        }
+        System.arraycopy(first, i, second, k, m - i);
+    }
+
+    private static int gallop(long[] elements, long key, int begin, int end, boolean strict) {
+        int left = begin, right = end;
+        for (int step = 1; begin + step - 1 < end; step <<= 1) {
+            int probe = begin + step - 1;
+            if (strict ? elements[probe] > key : elements[probe] >= key) {
+                right = probe;
+                break;
+            }
+            left = probe + 1;
+        }
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (strict ? elements[middle] > key : elements[middle] >= key) {
+                right = middle;
+            } else {
+                left = middle + 1;
+            }
+        }
+        return left;
+    }
+
+    private static final int MIN_GALLOP = 7;
 }
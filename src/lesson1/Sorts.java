@@ -1,8 +1,15 @@
 package lesson1;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
-import java.util.Random;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
 
 @SuppressWarnings("WeakerAccess")
 public class Sorts {
@@ -19,11 +26,135 @@ public class Sorts {
         }
     }
 
+    /**
+     * Устойчивая сортировка слиянием по компаратору с одним вспомогательным массивом
+     */
+    public static <T> void mergeSort(T[] elements, Comparator<? super T> comparator) {
+        mergeSort(elements, elements.clone(), 0, elements.length, comparator);
+    }
+
+    // Сортирует elements[begin, end), пользуясь buffer[begin, end) (в начале -- копия elements)
+    private static <T> void mergeSort(T[] elements, T[] buffer, int begin, int end,
+                                      Comparator<? super T> comparator) {
+        if (end - begin <= INSERTION_SORT_CUTOFF) {
+            for (int i = begin + 1; i < end; i++) {
+                T current = elements[i];
+                int j = i - 1;
+                for (; j >= begin && comparator.compare(elements[j], current) > 0; j--) {
+                    elements[j + 1] = elements[j];
+                }
+                elements[j + 1] = current;
+            }
+            return;
+        }
+        int middle = (begin + end) >>> 1;
+        mergeSort(elements, buffer, begin, middle, comparator);
+        mergeSort(elements, buffer, middle, end, comparator);
+        if (comparator.compare(elements[middle - 1], elements[middle]) <= 0) return;
+        System.arraycopy(elements, begin, buffer, begin, middle - begin);
+        int li = begin, ri = middle;
+        for (int i = begin; li < middle; i++) {
+            if (ri == end || comparator.compare(buffer[li], elements[ri]) <= 0) {
+                elements[i] = buffer[li++];
+            }
+            else {
+                elements[i] = elements[ri++];
+            }
+        }
+    }
+
+    /**
+     * Перестановка, сортирующая массив ключей: keys[result[0]] <= keys[result[1]] <= ...
+     * Равные ключи идут в порядке индексов. Пара (ключ, индекс) упаковывается в long,
+     * и long-ключи сортируются поразрядной сортировкой.
+     */
+    public static int[] argsort(int[] keys) {
+        long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            packed[i] = (long) keys[i] << 32 | i;
+        }
+        radixSort(packed);
+        int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = (int) packed[i];
+        }
+        return result;
+    }
+
+    /**
+     * Перестановка, сортирующая элементы по int-ключу; ключ извлекается из каждого элемента один раз
+     */
+    public static <T> int[] argsort(T[] elements, ToIntFunction<? super T> key) {
+        int[] keys = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = key.applyAsInt(elements[i]);
+        }
+        return argsort(keys);
+    }
+
+    /**
+     * Перестановка, сортирующая элементы по компаратору (устойчиво).
+     * Переставляются только индексы, сами элементы не перемещаются.
+     */
+    public static <T> int[] argsort(T[] elements, Comparator<? super T> comparator) {
+        int[] indices = new int[elements.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        mergeSortIndices(indices, new int[indices.length], 0, indices.length, elements, comparator);
+        return indices;
+    }
+
+    private static <T> void mergeSortIndices(int[] indices, int[] buffer, int begin, int end, T[] elements,
+                                             Comparator<? super T> comparator) {
+        if (end - begin <= INSERTION_SORT_CUTOFF) {
+            for (int i = begin + 1; i < end; i++) {
+                int current = indices[i];
+                int j = i - 1;
+                for (; j >= begin && comparator.compare(elements[indices[j]], elements[current]) > 0; j--) {
+                    indices[j + 1] = indices[j];
+                }
+                indices[j + 1] = current;
+            }
+            return;
+        }
+        int middle = (begin + end) >>> 1;
+        mergeSortIndices(indices, buffer, begin, middle, elements, comparator);
+        mergeSortIndices(indices, buffer, middle, end, elements, comparator);
+        if (comparator.compare(elements[indices[middle - 1]], elements[indices[middle]]) <= 0) return;
+        System.arraycopy(indices, begin, buffer, begin, middle - begin);
+        int li = begin, ri = middle;
+        for (int i = begin; li < middle; i++) {
+            if (ri == end || comparator.compare(elements[buffer[li]], elements[indices[ri]]) <= 0) {
+                indices[i] = buffer[li++];
+            }
+            else {
+                indices[i] = indices[ri++];
+            }
+        }
+    }
+
+    /**
+     * Устойчивая сортировка элементов по int-ключу: сортируются упакованные пары (ключ, индекс),
+     * после чего ссылки переставляются один раз
+     */
+    public static <T> void sortByKey(T[] elements, ToIntFunction<? super T> key) {
+        int[] order = argsort(elements, key);
+        T[] copy = elements.clone();
+        for (int i = 0; i < order.length; i++) {
+            elements[i] = copy[order[i]];
+        }
+    }
+
     public static void insertionSort(int[] elements) {
-        for (int i = 1; i < elements.length; i++) {
+        insertionSort(elements, 0, elements.length);
+    }
+
+    private static void insertionSort(int[] elements, int begin, int end) {
+        for (int i = begin + 1; i < end; i++) {
             int current = elements[i];
             int j = i - 1;
-            for (; j >= 0; j--) {
+            for (; j >= begin; j--) {
                 if (elements[j] > current) elements[j+1] = elements[j];
                 else break;
             }
@@ -31,6 +162,63 @@ public class Sorts {
         }
     }
 
+    public static final int NETWORK_SORT_LIMIT = 16;
+
+    // NETWORKS[n] -- пары индексов компараторов сортирующей сети для n элементов
+    private static final int[][] NETWORKS = new int[NETWORK_SORT_LIMIT + 1][];
+
+    static {
+        for (int n = 0; n <= NETWORK_SORT_LIMIT; n++) {
+            NETWORKS[n] = oddEvenMergeNetwork(n);
+        }
+    }
+
+    // Сеть Бэтчера (чётно-нечётное слияние) для произвольного n: O(n log^2 n) компараторов
+    private static int[] oddEvenMergeNetwork(int n) {
+        List<Integer> pairs = new ArrayList<>();
+        for (int p = 1; p < n; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < n; j += 2 * k) {
+                    for (int i = 0; i < Math.min(k, n - j - k); i++) {
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            pairs.add(i + j);
+                            pairs.add(i + j + k);
+                        }
+                    }
+                }
+            }
+        }
+        int[] network = new int[pairs.size()];
+        for (int i = 0; i < network.length; i++) {
+            network[i] = pairs.get(i);
+        }
+        return network;
+    }
+
+    /**
+     * Сортировка не более NETWORK_SORT_LIMIT элементов сортирующей сетью: последовательность
+     * сравнений не зависит от данных, а каждое сравнение-обмен записано через Math.min / Math.max,
+     * которые C2 превращает в условные пересылки без ветвлений. Для более длинных массивов --
+     * сортировка вставками.
+     */
+    public static void networkSort(int[] elements) {
+        networkSort(elements, 0, elements.length);
+    }
+
+    private static void networkSort(int[] elements, int begin, int end) {
+        if (end - begin > NETWORK_SORT_LIMIT) {
+            insertionSort(elements, begin, end);
+            return;
+        }
+        int[] network = NETWORKS[end - begin];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = begin + network[c], j = begin + network[c + 1];
+            int a = elements[i], b = elements[j];
+            elements[i] = Math.min(a, b);
+            elements[j] = Math.max(a, b);
+        }
+    }
+
     private static void merge(int[] elements, int begin, int middle, int end) {
         int[] left = Arrays.copyOfRange(elements, begin, middle);
         int[] right = Arrays.copyOfRange(elements, middle, end);
@@ -57,44 +245,410 @@ public class Sorts {
         mergeSort(elements, 0, elements.length);
     }
 
-    private static void heapify(int[] elements, int start, int length) {
-        int left = 2 * start + 1;
-        int right = left + 1;
-        int max = start;
-        if (left < length && elements[left] > elements[max]) {
-            max = left;
+    public static final int MERGE_SORT_CUTOFF = NETWORK_SORT_LIMIT;
+
+    public static void bottomUpMergeSort(int[] elements) {
+        bottomUpMergeSort(elements, new int[elements.length], MERGE_SORT_CUTOFF);
+    }
+
+    /**
+     * Восходящая сортировка слиянием без выделения памяти: куски длиной cutoff сортируются
+     * сортирующей сетью (при cutoff больше NETWORK_SORT_LIMIT -- вставками), затем сливаются
+     * попеременно из elements в buffer и обратно.
+     * Если две сливаемые половины уже упорядочены, они просто копируются.
+     */
+    public static void bottomUpMergeSort(int[] elements, int[] buffer, int cutoff) {
+        if (buffer.length < elements.length) {
+            throw new IllegalArgumentException("Buffer is too small: " + buffer.length + " < " + elements.length);
         }
-        if (right < length && elements[right] > elements[max]) {
-            max = right;
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive: " + cutoff);
+        }
+        bottomUpMergeSort(elements, buffer, 0, elements.length, cutoff);
+    }
+
+    private static void bottomUpMergeSort(int[] elements, int[] buffer, int begin, int end, int cutoff) {
+        for (int start = begin; start < end; start += cutoff) {
+            networkSort(elements, start, Math.min(start + cutoff, end));
+        }
+        int[] from = elements, to = buffer;
+        for (int width = cutoff; width < end - begin; width *= 2) {
+            for (int start = begin; start < end; start += 2 * width) {
+                int middle = Math.min(start + width, end);
+                int stop = Math.min(start + 2 * width, end);
+                if (middle == stop || from[middle - 1] <= from[middle]) {
+                    System.arraycopy(from, start, to, start, stop - start);
+                } else {
+                    merge(from, start, middle, middle, stop, to, start);
+                }
+            }
+            int[] temp = from;
+            from = to;
+            to = temp;
         }
-        if (max != start) {
-            int temp = elements[max];
-            elements[max] = elements[start];
-            elements[start] = temp;
-            heapify(elements, max, length);
+        if (from != elements) {
+            System.arraycopy(from, begin, elements, begin, end - begin);
         }
     }
 
-    private static void buildHeap(int[] elements) {
-        for (int start = elements.length / 2 - 1; start >= 0; start--) {
-            heapify(elements, start, elements.length);
+    // Слияние from[firstBegin, firstEnd) и from[secondBegin, secondEnd) в to, начиная с индекса out
+    private static void merge(int[] from, int firstBegin, int firstEnd, int secondBegin, int secondEnd,
+                              int[] to, int out) {
+        int li = firstBegin, ri = secondBegin;
+        int end = out + (firstEnd - firstBegin) + (secondEnd - secondBegin);
+        for (int i = out; i < end; i++) {
+            if (li < firstEnd && (ri == secondEnd || from[li] <= from[ri])) {
+                to[i] = from[li++];
+            }
+            else {
+                to[i] = from[ri++];
+            }
+        }
+    }
+
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    public static void parallelMergeSort(int[] elements) {
+        parallelMergeSort(elements, PARALLEL_SORT_THRESHOLD, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Параллельная сортировка слиянием в отдельном ForkJoinPool с заданным числом потоков.
+     * Куски не длиннее threshold сортируются последовательно, слияние половин также
+     * делится между потоками (половины разбиваются бинарным поиском).
+     */
+    public static void parallelMergeSort(int[] elements, int threshold, int parallelism) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        int[] buffer = new int[elements.length];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new MergeSortTask(elements, buffer, 0, elements.length, false, threshold));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Сортирует elements[begin, end), результат кладёт в buffer, если intoBuffer, иначе в elements
+    private static class MergeSortTask extends RecursiveAction {
+        private final int[] elements, buffer;
+        private final int begin, end, threshold;
+        private final boolean intoBuffer;
+
+        MergeSortTask(int[] elements, int[] buffer, int begin, int end, boolean intoBuffer, int threshold) {
+            this.elements = elements;
+            this.buffer = buffer;
+            this.begin = begin;
+            this.end = end;
+            this.intoBuffer = intoBuffer;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin <= threshold) {
+                bottomUpMergeSort(elements, buffer, begin, end, MERGE_SORT_CUTOFF);
+                if (intoBuffer) {
+                    System.arraycopy(elements, begin, buffer, begin, end - begin);
+                }
+                return;
+            }
+            int middle = (begin + end) >>> 1;
+            invokeAll(new MergeSortTask(elements, buffer, begin, middle, !intoBuffer, threshold),
+                      new MergeSortTask(elements, buffer, middle, end, !intoBuffer, threshold));
+            int[] from = intoBuffer ? elements : buffer;
+            int[] to = intoBuffer ? buffer : elements;
+            new MergeTask(from, begin, middle, middle, end, to, begin, threshold).compute();
+        }
+    }
+
+    private static class MergeTask extends RecursiveAction {
+        private final int[] from, to;
+        private final int firstBegin, firstEnd, secondBegin, secondEnd, out, threshold;
+
+        MergeTask(int[] from, int firstBegin, int firstEnd, int secondBegin, int secondEnd,
+                  int[] to, int out, int threshold) {
+            this.from = from;
+            this.firstBegin = firstBegin;
+            this.firstEnd = firstEnd;
+            this.secondBegin = secondBegin;
+            this.secondEnd = secondEnd;
+            this.to = to;
+            this.out = out;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int firstLength = firstEnd - firstBegin, secondLength = secondEnd - secondBegin;
+            if (firstLength + secondLength <= threshold) {
+                merge(from, firstBegin, firstEnd, secondBegin, secondEnd, to, out);
+                return;
+            }
+            if (firstLength < secondLength) {
+                new MergeTask(from, secondBegin, secondEnd, firstBegin, firstEnd, to, out, threshold).compute();
+                return;
+            }
+            int firstMiddle = (firstBegin + firstEnd) >>> 1;
+            int pivot = from[firstMiddle];
+            int secondMiddle = lowerBound(from, secondBegin, secondEnd, pivot);
+            int outMiddle = out + (firstMiddle - firstBegin) + (secondMiddle - secondBegin);
+            to[outMiddle] = pivot;
+            invokeAll(new MergeTask(from, firstBegin, firstMiddle, secondBegin, secondMiddle, to, out, threshold),
+                      new MergeTask(from, firstMiddle + 1, firstEnd, secondMiddle, secondEnd, to, outMiddle + 1,
+                                    threshold));
+        }
+    }
+
+    // Первый индекс в elements[begin, end), где элемент не меньше value
+    private static int lowerBound(int[] elements, int begin, int end, int value) {
+        while (begin < end) {
+            int middle = (begin + end) >>> 1;
+            if (elements[middle] < value) begin = middle + 1;
+            else end = middle;
+        }
+        return begin;
+    }
+
+    // Первый индекс в elements[begin, end), где элемент больше value
+    private static int upperBound(int[] elements, int begin, int end, int value) {
+        while (begin < end) {
+            int middle = (begin + end) >>> 1;
+            if (elements[middle] <= value) begin = middle + 1;
+            else end = middle;
+        }
+        return begin;
+    }
+
+    // Короткие серии дополняются до minRun <= MIN_MERGE элементов, что помещается в сортирующую сеть
+    private static final int MIN_MERGE = NETWORK_SORT_LIMIT;
+
+    /**
+     * Адаптивная сортировка естественными сериями (по образцу TimSort).
+     * <p>
+     * Массив просматривается слева направо, неубывающие и строго убывающие серии находятся как есть
+     * (убывающие разворачиваются), короткие серии дополняются до minRun и сортируются сетью.
+     * Серии складываются в стек и сливаются, пока длины в стеке не убывают быстрее чисел Фибоначчи,
+     * поэтому сливаются серии близкой длины. Перед слиянием уже стоящие на месте начало левой
+     * и конец правой серии отбрасываются бинарным поиском. Для почти отсортированного массива
+     * время близко к O(N), в худшем случае O(N log N).
+     */
+    public static void adaptiveSort(int[] elements) {
+        int length = elements.length;
+        if (length < 2) return;
+        int minRun = minRunLength(length);
+        int[] runBase = new int[64];
+        int[] runLength = new int[64];
+        int stackSize = 0;
+        int[] buffer = new int[length / 2 + 1];
+        for (int begin = 0; begin < length; ) {
+            int run = makeAscendingRun(elements, begin, length);
+            if (run < minRun) {
+                int forced = Math.min(minRun, length - begin);
+                networkSort(elements, begin, begin + forced);
+                run = forced;
+            }
+            runBase[stackSize] = begin;
+            runLength[stackSize] = run;
+            stackSize++;
+            begin += run;
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1] ||
+                        n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n]) {
+                    if (runLength[n - 1] < runLength[n + 1]) n--;
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                stackSize = mergeAt(elements, buffer, runBase, runLength, stackSize, n);
+            }
+        }
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) n--;
+            stackSize = mergeAt(elements, buffer, runBase, runLength, stackSize, n);
+        }
+    }
+
+    // Длина серии, начинающейся с begin; убывающая серия разворачивается
+    private static int makeAscendingRun(int[] elements, int begin, int end) {
+        int runEnd = begin + 1;
+        if (runEnd == end) return 1;
+        if (elements[runEnd++] < elements[begin]) {
+            while (runEnd < end && elements[runEnd] < elements[runEnd - 1]) runEnd++;
+            for (int i = begin, j = runEnd - 1; i < j; i++, j--) {
+                swap(elements, i, j);
+            }
+        } else {
+            while (runEnd < end && elements[runEnd] >= elements[runEnd - 1]) runEnd++;
+        }
+        return runEnd - begin;
+    }
+
+    // Длина не меньше MIN_MERGE / 2, при которой length / minRun -- степень двойки или чуть меньше
+    private static int minRunLength(int length) {
+        int odd = 0;
+        while (length >= MIN_MERGE) {
+            odd |= length & 1;
+            length >>= 1;
+        }
+        return length + odd;
+    }
+
+    // Сливает серии n и n + 1 стека, возвращает новый размер стека
+    private static int mergeAt(int[] elements, int[] buffer, int[] runBase, int[] runLength, int stackSize, int n) {
+        int firstBegin = runBase[n], firstLength = runLength[n];
+        int secondBegin = runBase[n + 1], secondLength = runLength[n + 1];
+        runLength[n] = firstLength + secondLength;
+        if (n == stackSize - 3) {
+            runBase[n + 1] = runBase[n + 2];
+            runLength[n + 1] = runLength[n + 2];
+        }
+        int firstEnd = secondBegin, secondEnd = secondBegin + secondLength;
+        // Начало первой серии, не большее начала второй, и конец второй серии,
+        // не меньший конца первой, уже стоят на своих местах
+        firstBegin = upperBound(elements, firstBegin, firstEnd, elements[secondBegin]);
+        if (firstBegin < firstEnd) {
+            secondEnd = lowerBound(elements, secondBegin, secondEnd, elements[firstEnd - 1]);
+            if (firstEnd - firstBegin <= secondEnd - secondBegin) {
+                mergeLow(elements, buffer, firstBegin, firstEnd, secondEnd);
+            } else {
+                mergeHigh(elements, buffer, firstBegin, firstEnd, secondEnd);
+            }
+        }
+        return stackSize - 1;
+    }
+
+    // Слияние соседних серий [begin, middle) и [middle, end), левая (меньшая) копируется в buffer
+    private static void mergeLow(int[] elements, int[] buffer, int begin, int middle, int end) {
+        int length = middle - begin;
+        System.arraycopy(elements, begin, buffer, 0, length);
+        int li = 0, ri = middle, i = begin;
+        while (li < length && ri < end) {
+            if (elements[ri] < buffer[li]) elements[i++] = elements[ri++];
+            else elements[i++] = buffer[li++];
+        }
+        System.arraycopy(buffer, li, elements, i, length - li);
+    }
+
+    // Слияние соседних серий [begin, middle) и [middle, end) с конца, правая (меньшая) копируется в buffer
+    private static void mergeHigh(int[] elements, int[] buffer, int begin, int middle, int end) {
+        int length = end - middle;
+        System.arraycopy(elements, middle, buffer, 0, length);
+        int li = middle - 1, ri = length - 1, i = end - 1;
+        while (li >= begin && ri >= 0) {
+            if (elements[li] > buffer[ri]) elements[i--] = elements[li--];
+            else elements[i--] = buffer[ri--];
+        }
+        System.arraycopy(buffer, 0, elements, begin, ri + 1);
+    }
+
+    // Куча хранится в elements[offset, offset + length), start и length -- индексы внутри кучи
+    private static void heapify(int[] elements, int offset, int start, int length) {
+        int current = elements[offset + start];
+        int half = length / 2;
+        while (start < half) {
+            int child = 2 * start + 1;
+            if (child + 1 < length && elements[offset + child + 1] > elements[offset + child]) {
+                child++;
+            }
+            if (elements[offset + child] <= current) break;
+            elements[offset + start] = elements[offset + child];
+            start = child;
+        }
+        elements[offset + start] = current;
+    }
+
+    private static void buildHeap(int[] elements, int offset, int length) {
+        for (int start = length / 2 - 1; start >= 0; start--) {
+            heapify(elements, offset, start, length);
+        }
+    }
+
+    private static void heapSort(int[] elements, int begin, int end) {
+        int length = end - begin;
+        buildHeap(elements, begin, length);
+        for (int j = length - 1; j >= 1; j--) {
+            swap(elements, begin, begin + j);
+            heapify(elements, begin, 0, j);
         }
     }
 
     public static void heapSort(int[] elements) {
-        buildHeap(elements);
+        heapSort(elements, 0, elements.length);
+    }
+
+    /**
+     * Пирамидальная сортировка с просеиванием по Флойду: при извлечении максимума дырка
+     * спускается до листа по большим потомкам без сравнения с просеиваемым элементом,
+     * а затем элемент поднимается от листа вверх. Так как вставленный с конца элемент почти
+     * всегда мал, подъём короткий, и сравнений выходит почти вдвое меньше.
+     */
+    public static void floydHeapSort(int[] elements) {
+        buildHeap(elements, 0, elements.length);
         for (int j = elements.length - 1; j >= 1; j--) {
-            int temp = elements[0];
-            elements[0] = elements[j];
-            elements[j] = temp;
-            heapify(elements, 0, j);
+            int current = elements[j];
+            elements[j] = elements[0];
+            int hole = 0;
+            int child;
+            while ((child = 2 * hole + 1) < j) {
+                if (child + 1 < j && elements[child + 1] > elements[child]) {
+                    child++;
+                }
+                elements[hole] = elements[child];
+                hole = child;
+            }
+            while (hole > 0) {
+                int parent = (hole - 1) / 2;
+                if (elements[parent] >= current) break;
+                elements[hole] = elements[parent];
+                hole = parent;
+            }
+            elements[hole] = current;
+        }
+    }
+
+    // Просеивание в 4-арной куче elements[0, length): потомки i -- это 4i+1 .. 4i+4
+    private static void quaternaryHeapify(int[] elements, int start, int length) {
+        int current = elements[start];
+        while (true) {
+            int first = 4 * start + 1;
+            if (first >= length) break;
+            int max = first;
+            int last = Math.min(first + 4, length);
+            for (int child = first + 1; child < last; child++) {
+                if (elements[child] > elements[max]) max = child;
+            }
+            if (elements[max] <= current) break;
+            elements[start] = elements[max];
+            start = max;
+        }
+        elements[start] = current;
+    }
+
+    /**
+     * Пирамидальная сортировка на 4-арной куче: куча вдвое ниже двоичной,
+     * а четыре потомка узла лежат подряд и обычно попадают в одну строку кэша.
+     */
+    public static void quaternaryHeapSort(int[] elements) {
+        for (int start = (elements.length - 2) >> 2; start >= 0; start--) {
+            quaternaryHeapify(elements, start, elements.length);
+        }
+        for (int j = elements.length - 1; j >= 1; j--) {
+            swap(elements, 0, j);
+            quaternaryHeapify(elements, 0, j);
         }
     }
 
-    private static final Random random = new Random(Calendar.getInstance().getTimeInMillis());
+    private static void swap(int[] elements, int i, int j) {
+        int temp = elements[i];
+        elements[i] = elements[j];
+        elements[j] = temp;
+    }
 
     private static int partition(int[] elements, int min, int max) {
-        int x = elements[min + random.nextInt(max - min + 1)];
+        int x = elements[min + ThreadLocalRandom.current().nextInt(max - min + 1)];
         int left = min, right = max;
         while (left <= right) {
             while (elements[left] < x) {
@@ -115,7 +669,9 @@ public class Sorts {
     }
 
     private static void quickSort(int[] elements, int min, int max) {
-        if (min < max) {
+        if (max - min < NETWORK_SORT_LIMIT) {
+            networkSort(elements, min, max + 1);
+        } else {
             int border = partition(elements, min, max);
             quickSort(elements, min, border);
             quickSort(elements, border + 1, max);
@@ -126,6 +682,220 @@ public class Sorts {
         quickSort(elements, 0, elements.length - 1);
     }
 
+    /**
+     * Переставляет elements так, что elements[k] -- k-й по возрастанию элемент (с нуля),
+     * слева от него не большие, справа -- не меньшие. Разбиение то же, что в quickSort,
+     * но продолжается только в той части, где лежит k, поэтому в среднем O(N).
+     */
+    public static void nthElement(int[] elements, int k) {
+        if (k < 0 || k >= elements.length) {
+            throw new IndexOutOfBoundsException("k = " + k + ", length = " + elements.length);
+        }
+        int min = 0, max = elements.length - 1;
+        while (min < max) {
+            int border = partition(elements, min, max);
+            if (k <= border) max = border;
+            else min = border + 1;
+        }
+    }
+
+    /**
+     * k-й по возрастанию элемент (с нуля); порядок элементов массива при этом меняется
+     */
+    public static int quickSelect(int[] elements, int k) {
+        nthElement(elements, k);
+        return elements[k];
+    }
+
+    /**
+     * Сортирует только k наименьших элементов: они оказываются в elements[0, k) по возрастанию,
+     * остальные -- в произвольном порядке. O(N + k log k) в среднем.
+     */
+    public static void partialSort(int[] elements, int k) {
+        if (k <= 0) return;
+        if (k < elements.length) {
+            nthElement(elements, k - 1);
+        }
+        quickSort(elements, 0, Math.min(k, elements.length) - 1);
+    }
+
+    /**
+     * k наименьших значений потока по возрастанию. Хранится только max-куча из k элементов,
+     * поэтому поток может быть сколь угодно длинным (например, читаться из файла). O(N log k).
+     */
+    public static int[] smallest(PrimitiveIterator.OfInt values, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        int[] heap = new int[k];
+        int size = 0;
+        while (values.hasNext()) {
+            int value = values.nextInt();
+            if (size < k) {
+                int hole = size++;
+                while (hole > 0 && heap[(hole - 1) / 2] < value) {
+                    heap[hole] = heap[(hole - 1) / 2];
+                    hole = (hole - 1) / 2;
+                }
+                heap[hole] = value;
+            } else if (k > 0 && value < heap[0]) {
+                heap[0] = value;
+                heapify(heap, 0, 0, k);
+            }
+        }
+        heapSort(heap, 0, size);
+        return size == k ? heap : Arrays.copyOf(heap, size);
+    }
+
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    // Допустимая глубина рекурсии интроспективной сортировки: 2 * log2(length)
+    private static int introsortDepth(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    /**
+     * Быстрая сортировка с трёхчастным разбиением (задача о голландском флаге):
+     * элементы, равные опорному, сразу встают на место и больше не участвуют в сортировке,
+     * поэтому массивы с большим числом повторов сортируются за O(N log K).
+     * Рекурсия идёт только в меньшую часть, большая обрабатывается в цикле, а при превышении
+     * глубины 2 log N оставшийся кусок досортировывается пирамидальной сортировкой.
+     */
+    public static void threeWayQuickSort(int[] elements) {
+        threeWayQuickSort(elements, 0, elements.length - 1, introsortDepth(elements.length));
+    }
+
+    private static void threeWayQuickSort(int[] elements, int min, int max, int depth) {
+        while (max - min >= INSERTION_SORT_CUTOFF) {
+            if (depth-- == 0) {
+                heapSort(elements, min, max + 1);
+                return;
+            }
+            int x = elements[min + ThreadLocalRandom.current().nextInt(max - min + 1)];
+            int less = min, greater = max, i = min;
+            while (i <= greater) {
+                if (elements[i] < x) {
+                    swap(elements, less++, i++);
+                } else if (elements[i] > x) {
+                    swap(elements, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            // elements[less, greater] равны x
+            if (less - min < max - greater) {
+                threeWayQuickSort(elements, min, less - 1, depth);
+                min = greater + 1;
+            } else {
+                threeWayQuickSort(elements, greater + 1, max, depth);
+                max = less - 1;
+            }
+        }
+        networkSort(elements, min, max + 1);
+    }
+
+    /**
+     * Быстрая сортировка с двумя опорными элементами p <= q: массив делится на части
+     * меньше p, от p до q и больше q. Рекурсия идёт в две меньшие части, самая большая
+     * обрабатывается в цикле; при превышении глубины 2 log N используется пирамидальная сортировка.
+     */
+    public static void dualPivotQuickSort(int[] elements) {
+        dualPivotQuickSort(elements, 0, elements.length - 1, introsortDepth(elements.length));
+    }
+
+    private static void dualPivotQuickSort(int[] elements, int min, int max, int depth) {
+        while (max - min >= INSERTION_SORT_CUTOFF) {
+            if (depth-- == 0) {
+                heapSort(elements, min, max + 1);
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            swap(elements, min, min + random.nextInt(max - min + 1));
+            swap(elements, max, min + 1 + random.nextInt(max - min));
+            if (elements[min] > elements[max]) {
+                swap(elements, min, max);
+            }
+            int p = elements[min], q = elements[max];
+            int less = min + 1, greater = max - 1, i = min + 1;
+            while (i <= greater) {
+                if (elements[i] < p) {
+                    swap(elements, less++, i++);
+                } else if (elements[i] > q) {
+                    swap(elements, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            less--;
+            greater++;
+            swap(elements, min, less);
+            swap(elements, max, greater);
+            // elements[min, less) < p, elements[less + 1, greater) в [p, q], elements(greater, max] > q;
+            // при p == q средняя часть состоит из равных элементов и уже на месте
+            int left = less - min;
+            int middle = p == q ? 0 : greater - less - 1;
+            int right = max - greater;
+            if (left >= middle && left >= right) {
+                if (middle > 0) dualPivotQuickSort(elements, less + 1, greater - 1, depth);
+                dualPivotQuickSort(elements, greater + 1, max, depth);
+                max = less - 1;
+            } else if (middle >= right) {
+                dualPivotQuickSort(elements, min, less - 1, depth);
+                dualPivotQuickSort(elements, greater + 1, max, depth);
+                min = less + 1;
+                max = greater - 1;
+            } else {
+                dualPivotQuickSort(elements, min, less - 1, depth);
+                if (middle > 0) dualPivotQuickSort(elements, less + 1, greater - 1, depth);
+                min = greater + 1;
+            }
+        }
+        networkSort(elements, min, max + 1);
+    }
+
+    public static void parallelQuickSort(int[] elements) {
+        parallelQuickSort(elements, PARALLEL_SORT_THRESHOLD, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Параллельная быстрая сортировка: после разбиения обе части сортируются отдельными задачами
+     * ForkJoinPool с parallelism потоками, части короче threshold -- последовательно.
+     */
+    public static void parallelQuickSort(int[] elements, int threshold, int parallelism) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new QuickSortTask(elements, 0, elements.length - 1, threshold));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static class QuickSortTask extends RecursiveAction {
+        private final int[] elements;
+        private final int min, max, threshold;
+
+        QuickSortTask(int[] elements, int min, int max, int threshold) {
+            this.elements = elements;
+            this.min = min;
+            this.max = max;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (max - min < threshold) {
+                quickSort(elements, min, max);
+                return;
+            }
+            int border = partition(elements, min, max);
+            invokeAll(new QuickSortTask(elements, min, border, threshold),
+                      new QuickSortTask(elements, border + 1, max, threshold));
+        }
+    }
+
     public static int[] countingSort(int[] elements, int limit) {
         int[] count = new int[limit + 1];
         for (int element: elements) {
@@ -141,4 +911,566 @@ public class Sorts {
         }
         return out;
     }
-}
\ No newline at end of file
+
+    private static final int PARALLEL_CHUNK = 1 << 16;
+
+    // Выполняет body(chunk) для каждого chunk из [0, chunks) на потоках общего ForkJoinPool
+    private static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+            return;
+        }
+        List<RecursiveAction> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    body.accept(chunk);
+                }
+            });
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    private static int chunksFor(int length) {
+        return Math.max(1, Math.min(ForkJoinPool.commonPool().getParallelism(), length / PARALLEL_CHUNK));
+    }
+
+    /**
+     * Параллельная сортировка подсчётом на месте.
+     */
+    public static void parallelCountingSort(int[] elements, int limit) {
+        parallelCountingSort(elements, limit, elements);
+    }
+
+    /**
+     * Параллельная сортировка подсчётом: массив делится на куски, каждый кусок считается
+     * отдельной задачей ForkJoinPool в собственный массив счётчиков, счётчики затем складываются,
+     * и результат записывается в out (out может совпадать с elements).
+     */
+    public static int[] parallelCountingSort(int[] elements, int limit, int[] out) {
+        if (out.length < elements.length) {
+            throw new IllegalArgumentException("Output buffer is too small: " + out.length + " < " + elements.length);
+        }
+        int chunks = chunksFor(elements.length);
+        int chunkSize = (elements.length + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][];
+        forEachChunk(chunks, chunk -> {
+            int[] count = new int[limit + 1];
+            int end = Math.min(elements.length, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                count[elements[i]]++;
+            }
+            counts[chunk] = count;
+        });
+        int[] total = counts[0];
+        for (int c = 1; c < chunks; c++) {
+            int[] count = counts[c];
+            for (int j = 0; j <= limit; j++) {
+                total[j] += count[j];
+            }
+        }
+        int[] start = new int[limit + 2];
+        for (int j = 0; j <= limit; j++) {
+            start[j + 1] = start[j] + total[j];
+        }
+        int valueChunk = (limit + chunks) / chunks;
+        forEachChunk(chunks, chunk -> {
+            int end = Math.min(limit + 1, (chunk + 1) * valueChunk);
+            for (int j = chunk * valueChunk; j < end; j++) {
+                Arrays.fill(out, start[j], start[j + 1], j);
+            }
+        });
+        return out;
+    }
+
+    private static final int RADIX = 256;
+
+    /**
+     * Поразрядная сортировка LSD по байтам. Гистограммы всех разрядов строятся за один
+     * параллельный проход, разряды, одинаковые у всех элементов, пропускаются.
+     * Старший байт берётся с инвертированным знаковым битом, поэтому отрицательные числа
+     * оказываются раньше положительных.
+     */
+    public static void radixSort(int[] elements) {
+        radixSort(elements, new int[elements.length]);
+    }
+
+    /**
+     * То же, но с переданным вспомогательным массивом (не короче elements),
+     * что позволяет переиспользовать его между вызовами.
+     */
+    public static void radixSort(int[] elements, int[] buffer) {
+        int length = elements.length;
+        if (buffer.length < length) {
+            throw new IllegalArgumentException("Buffer is too small: " + buffer.length + " < " + length);
+        }
+        int[][] count = radixHistogram(length, Integer.BYTES, (i, digits) -> {
+            int key = elements[i] ^ Integer.MIN_VALUE;
+            for (int d = 0; d < Integer.BYTES; d++) {
+                digits[d][(key >>> (8 * d)) & 0xFF]++;
+            }
+        });
+        int[] from = elements, to = buffer;
+        for (int d = 0; d < Integer.BYTES; d++) {
+            int[] offset = radixOffsets(count[d], length);
+            if (offset == null) continue;
+            int shift = 8 * d;
+            for (int i = 0; i < length; i++) {
+                int value = from[i];
+                to[offset[((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            int[] temp = from;
+            from = to;
+            to = temp;
+        }
+        if (from != elements) {
+            System.arraycopy(from, 0, elements, 0, length);
+        }
+    }
+
+    public static void radixSort(long[] elements) {
+        radixSort(elements, new long[elements.length]);
+    }
+
+    public static void radixSort(long[] elements, long[] buffer) {
+        int length = elements.length;
+        if (buffer.length < length) {
+            throw new IllegalArgumentException("Buffer is too small: " + buffer.length + " < " + length);
+        }
+        int[][] count = radixHistogram(length, Long.BYTES, (i, digits) -> {
+            long key = elements[i] ^ Long.MIN_VALUE;
+            for (int d = 0; d < Long.BYTES; d++) {
+                digits[d][(int) (key >>> (8 * d)) & 0xFF]++;
+            }
+        });
+        long[] from = elements, to = buffer;
+        for (int d = 0; d < Long.BYTES; d++) {
+            int[] offset = radixOffsets(count[d], length);
+            if (offset == null) continue;
+            int shift = 8 * d;
+            for (int i = 0; i < length; i++) {
+                long value = from[i];
+                to[offset[(int) ((value ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            long[] temp = from;
+            from = to;
+            to = temp;
+        }
+        if (from != elements) {
+            System.arraycopy(from, 0, elements, 0, length);
+        }
+    }
+
+    private interface DigitCounter {
+        void count(int index, int[][] digits);
+    }
+
+    // Параллельно строит гистограммы всех digits разрядов и складывает их
+    private static int[][] radixHistogram(int length, int digits, DigitCounter counter) {
+        int chunks = chunksFor(length);
+        int chunkSize = (length + chunks - 1) / chunks;
+        int[][][] counts = new int[chunks][][];
+        forEachChunk(chunks, chunk -> {
+            int[][] count = new int[digits][RADIX];
+            int end = Math.min(length, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                counter.count(i, count);
+            }
+            counts[chunk] = count;
+        });
+        int[][] total = counts[0];
+        for (int c = 1; c < chunks; c++) {
+            for (int d = 0; d < digits; d++) {
+                for (int b = 0; b < RADIX; b++) {
+                    total[d][b] += counts[c][d][b];
+                }
+            }
+        }
+        return total;
+    }
+
+    // Переводит счётчики разряда в начальные позиции; null, если все элементы в одной корзине
+    private static int[] radixOffsets(int[] count, int length) {
+        int[] offset = new int[RADIX];
+        int sum = 0;
+        for (int b = 0; b < RADIX; b++) {
+            if (count[b] == length) return null;
+            offset[b] = sum;
+            sum += count[b];
+        }
+        return offset;
+    }
+
+    // Специализации для long[], short[] и double[]: те же алгоритмы без упаковки элементов.
+    // double сравниваются по Double.compare: -0.0 < 0.0, NaN больше всех остальных значений.
+
+    public static void mergeSort(long[] elements) {
+        mergeSort(elements, new long[elements.length], 0, elements.length);
+    }
+
+    private static void mergeSort(long[] elements, long[] buffer, int begin, int end) {
+        if (end - begin <= INSERTION_SORT_CUTOFF) {
+            networkSort(elements, begin, end);
+            return;
+        }
+        int middle = (begin + end) >>> 1;
+        mergeSort(elements, buffer, begin, middle);
+        mergeSort(elements, buffer, middle, end);
+        if (elements[middle - 1] <= elements[middle]) return;
+        System.arraycopy(elements, begin, buffer, begin, middle - begin);
+        int li = begin, ri = middle;
+        for (int i = begin; li < middle; i++) {
+            if (ri == end || buffer[li] <= elements[ri]) {
+                elements[i] = buffer[li++];
+            }
+            else {
+                elements[i] = elements[ri++];
+            }
+        }
+    }
+
+    // Сортирующая сеть для не более NETWORK_SORT_LIMIT элементов
+    private static void networkSort(long[] elements, int begin, int end) {
+        int[] network = NETWORKS[end - begin];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = begin + network[c], j = begin + network[c + 1];
+            long a = elements[i], b = elements[j];
+            elements[i] = Math.min(a, b);
+            elements[j] = Math.max(a, b);
+        }
+    }
+
+    private static void heapify(long[] elements, int start, int length) {
+        long current = elements[start];
+        int half = length / 2;
+        while (start < half) {
+            int child = 2 * start + 1;
+            if (child + 1 < length && elements[child + 1] > elements[child]) {
+                child++;
+            }
+            if (elements[child] <= current) break;
+            elements[start] = elements[child];
+            start = child;
+        }
+        elements[start] = current;
+    }
+
+    public static void heapSort(long[] elements) {
+        for (int start = elements.length / 2 - 1; start >= 0; start--) {
+            heapify(elements, start, elements.length);
+        }
+        for (int j = elements.length - 1; j >= 1; j--) {
+            long temp = elements[0];
+            elements[0] = elements[j];
+            elements[j] = temp;
+            heapify(elements, 0, j);
+        }
+    }
+
+    private static int partition(long[] elements, int min, int max) {
+        long x = elements[min + ThreadLocalRandom.current().nextInt(max - min + 1)];
+        int left = min, right = max;
+        while (left <= right) {
+            while (elements[left] < x) {
+                left++;
+            }
+            while (elements[right] > x) {
+                right--;
+            }
+            if (left <= right) {
+                long temp = elements[left];
+                elements[left] = elements[right];
+                elements[right] = temp;
+                left++;
+                right--;
+            }
+        }
+        return right;
+    }
+
+    private static void quickSort(long[] elements, int min, int max) {
+        while (min < max) {
+            int border = partition(elements, min, max);
+            if (border - min < max - border) {
+                quickSort(elements, min, border);
+                min = border + 1;
+            } else {
+                quickSort(elements, border + 1, max);
+                max = border;
+            }
+        }
+    }
+
+    public static void quickSort(long[] elements) {
+        quickSort(elements, 0, elements.length - 1);
+    }
+
+    public static void mergeSort(short[] elements) {
+        mergeSort(elements, new short[elements.length], 0, elements.length);
+    }
+
+    private static void mergeSort(short[] elements, short[] buffer, int begin, int end) {
+        if (end - begin <= INSERTION_SORT_CUTOFF) {
+            networkSort(elements, begin, end);
+            return;
+        }
+        int middle = (begin + end) >>> 1;
+        mergeSort(elements, buffer, begin, middle);
+        mergeSort(elements, buffer, middle, end);
+        if (elements[middle - 1] <= elements[middle]) return;
+        System.arraycopy(elements, begin, buffer, begin, middle - begin);
+        int li = begin, ri = middle;
+        for (int i = begin; li < middle; i++) {
+            if (ri == end || buffer[li] <= elements[ri]) {
+                elements[i] = buffer[li++];
+            }
+            else {
+                elements[i] = elements[ri++];
+            }
+        }
+    }
+
+    // Сортирующая сеть для не более NETWORK_SORT_LIMIT элементов
+    private static void networkSort(short[] elements, int begin, int end) {
+        int[] network = NETWORKS[end - begin];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = begin + network[c], j = begin + network[c + 1];
+            short a = elements[i], b = elements[j];
+            elements[i] = (short) Math.min(a, b);
+            elements[j] = (short) Math.max(a, b);
+        }
+    }
+
+    private static void heapify(short[] elements, int start, int length) {
+        short current = elements[start];
+        int half = length / 2;
+        while (start < half) {
+            int child = 2 * start + 1;
+            if (child + 1 < length && elements[child + 1] > elements[child]) {
+                child++;
+            }
+            if (elements[child] <= current) break;
+            elements[start] = elements[child];
+            start = child;
+        }
+        elements[start] = current;
+    }
+
+    public static void heapSort(short[] elements) {
+        for (int start = elements.length / 2 - 1; start >= 0; start--) {
+            heapify(elements, start, elements.length);
+        }
+        for (int j = elements.length - 1; j >= 1; j--) {
+            short temp = elements[0];
+            elements[0] = elements[j];
+            elements[j] = temp;
+            heapify(elements, 0, j);
+        }
+    }
+
+    private static int partition(short[] elements, int min, int max) {
+        short x = elements[min + ThreadLocalRandom.current().nextInt(max - min + 1)];
+        int left = min, right = max;
+        while (left <= right) {
+            while (elements[left] < x) {
+                left++;
+            }
+            while (elements[right] > x) {
+                right--;
+            }
+            if (left <= right) {
+                short temp = elements[left];
+                elements[left] = elements[right];
+                elements[right] = temp;
+                left++;
+                right--;
+            }
+        }
+        return right;
+    }
+
+    private static void quickSort(short[] elements, int min, int max) {
+        while (min < max) {
+            int border = partition(elements, min, max);
+            if (border - min < max - border) {
+                quickSort(elements, min, border);
+                min = border + 1;
+            } else {
+                quickSort(elements, border + 1, max);
+                max = border;
+            }
+        }
+    }
+
+    public static void quickSort(short[] elements) {
+        quickSort(elements, 0, elements.length - 1);
+    }
+
+    /**
+     * Для short хватает одного 16-битного разряда, поэтому поразрядная сортировка
+     * сводится к одному проходу подсчёта по 65536 корзинам без вспомогательного массива.
+     */
+    public static void radixSort(short[] elements) {
+        int[] count = new int[1 << 16];
+        for (short element : elements) {
+            count[element - Short.MIN_VALUE]++;
+        }
+        int start = 0;
+        for (int value = 0; value < count.length; value++) {
+            Arrays.fill(elements, start, start + count[value], (short) (value + Short.MIN_VALUE));
+            start += count[value];
+        }
+    }
+
+    public static void mergeSort(double[] elements) {
+        mergeSort(elements, new double[elements.length], 0, elements.length);
+    }
+
+    private static void mergeSort(double[] elements, double[] buffer, int begin, int end) {
+        if (end - begin <= INSERTION_SORT_CUTOFF) {
+            networkSort(elements, begin, end);
+            return;
+        }
+        int middle = (begin + end) >>> 1;
+        mergeSort(elements, buffer, begin, middle);
+        mergeSort(elements, buffer, middle, end);
+        if (Double.compare(elements[middle - 1], elements[middle]) <= 0) return;
+        System.arraycopy(elements, begin, buffer, begin, middle - begin);
+        int li = begin, ri = middle;
+        for (int i = begin; li < middle; i++) {
+            if (ri == end || Double.compare(buffer[li], elements[ri]) <= 0) {
+                elements[i] = buffer[li++];
+            }
+            else {
+                elements[i] = elements[ri++];
+            }
+        }
+    }
+
+    // Сортирующая сеть для не более NETWORK_SORT_LIMIT элементов; сравнение -- Double.compare
+    private static void networkSort(double[] elements, int begin, int end) {
+        int[] network = NETWORKS[end - begin];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = begin + network[c], j = begin + network[c + 1];
+            double a = elements[i], b = elements[j];
+            boolean greater = Double.compare(a, b) > 0;
+            elements[i] = greater ? b : a;
+            elements[j] = greater ? a : b;
+        }
+    }
+
+    private static void heapify(double[] elements, int start, int length) {
+        double current = elements[start];
+        int half = length / 2;
+        while (start < half) {
+            int child = 2 * start + 1;
+            if (child + 1 < length && Double.compare(elements[child + 1], elements[child]) > 0) {
+                child++;
+            }
+            if (Double.compare(elements[child], current) <= 0) break;
+            elements[start] = elements[child];
+            start = child;
+        }
+        elements[start] = current;
+    }
+
+    public static void heapSort(double[] elements) {
+        for (int start = elements.length / 2 - 1; start >= 0; start--) {
+            heapify(elements, start, elements.length);
+        }
+        for (int j = elements.length - 1; j >= 1; j--) {
+            double temp = elements[0];
+            elements[0] = elements[j];
+            elements[j] = temp;
+            heapify(elements, 0, j);
+        }
+    }
+
+    private static int partition(double[] elements, int min, int max) {
+        double x = elements[min + ThreadLocalRandom.current().nextInt(max - min + 1)];
+        int left = min, right = max;
+        while (left <= right) {
+            while (Double.compare(elements[left], x) < 0) {
+                left++;
+            }
+            while (Double.compare(elements[right], x) > 0) {
+                right--;
+            }
+            if (left <= right) {
+                double temp = elements[left];
+                elements[left] = elements[right];
+                elements[right] = temp;
+                left++;
+                right--;
+            }
+        }
+        return right;
+    }
+
+    private static void quickSort(double[] elements, int min, int max) {
+        while (min < max) {
+            int border = partition(elements, min, max);
+            if (border - min < max - border) {
+                quickSort(elements, min, border);
+                min = border + 1;
+            } else {
+                quickSort(elements, border + 1, max);
+                max = border;
+            }
+        }
+    }
+
+    public static void quickSort(double[] elements) {
+        quickSort(elements, 0, elements.length - 1);
+    }
+
+    public static void radixSort(double[] elements) {
+        radixSort(elements, new double[elements.length]);
+    }
+
+    /**
+     * Поразрядная сортировка double по битам, переупорядоченным так,
+     * что порядок знаковых long совпадает с Double.compare.
+     */
+    public static void radixSort(double[] elements, double[] buffer) {
+        int length = elements.length;
+        if (buffer.length < length) {
+            throw new IllegalArgumentException("Buffer is too small: " + buffer.length + " < " + length);
+        }
+        int[][] count = radixHistogram(length, Long.BYTES, (i, digits) -> {
+            long key = sortableBits(elements[i]) ^ Long.MIN_VALUE;
+            for (int d = 0; d < Long.BYTES; d++) {
+                digits[d][(int) (key >>> (8 * d)) & 0xFF]++;
+            }
+        });
+        double[] from = elements, to = buffer;
+        for (int d = 0; d < Long.BYTES; d++) {
+            int[] offset = radixOffsets(count[d], length);
+            if (offset == null) continue;
+            int shift = 8 * d;
+            for (int i = 0; i < length; i++) {
+                double value = from[i];
+                to[offset[(int) ((sortableBits(value) ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            double[] temp = from;
+            from = to;
+            to = temp;
+        }
+        if (from != elements) {
+            System.arraycopy(from, 0, elements, 0, length);
+        }
+    }
+
+    // -0.0 < 0.0, все NaN равны между собой и больше +Infinity
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+}
@@ -1,8 +1,9 @@
 package lesson1
 
-import java.util.*
-
-private val random = Random(Calendar.getInstance().timeInMillis)
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinTask
+import java.util.concurrent.RecursiveAction
+import java.util.concurrent.ThreadLocalRandom
 
 fun <T : Comparable<T>> insertionSort(elements: MutableList<T>) {
     for (i in 1 until elements.size) {
@@ -80,7 +81,7 @@ fun heapSort(elements: IntArray) {
 }
 
 private fun partition(elements: IntArray, min: Int, max: Int): Int {
-    val x = elements[min + random.nextInt(max - min + 1)]
+    val x = elements[min + ThreadLocalRandom.current().nextInt(max - min + 1)]
     var left = min
     var right = max
     while (left <= right) {
@@ -113,6 +114,83 @@ fun quickSort(elements: IntArray) {
     quickSort(elements, 0, elements.size - 1)
 }
 
+const val PARALLEL_SORT_THRESHOLD = 1 shl 13
+
+private class MergeSortAction(
+    private val elements: IntArray,
+    private val begin: Int,
+    private val end: Int,
+    private val threshold: Int
+) : RecursiveAction() {
+    override fun compute() {
+        if (end - begin <= threshold) {
+            mergeSort(elements, begin, end)
+            return
+        }
+        val middle = (begin + end) / 2
+        ForkJoinTask.invokeAll(
+            MergeSortAction(elements, begin, middle, threshold),
+            MergeSortAction(elements, middle, end, threshold)
+        )
+        merge(elements, begin, middle, end)
+    }
+}
+
+/**
+ * Параллельная сортировка слиянием в ForkJoinPool с parallelism потоками,
+ * куски не длиннее threshold сортируются последовательно
+ */
+fun parallelMergeSort(
+    elements: IntArray,
+    threshold: Int = PARALLEL_SORT_THRESHOLD,
+    parallelism: Int = ForkJoinPool.getCommonPoolParallelism()
+) {
+    require(threshold >= 1) { "Threshold must be positive: $threshold" }
+    val pool = ForkJoinPool(parallelism)
+    try {
+        pool.invoke(MergeSortAction(elements, 0, elements.size, threshold))
+    } finally {
+        pool.shutdown()
+    }
+}
+
+private class QuickSortAction(
+    private val elements: IntArray,
+    private val min: Int,
+    private val max: Int,
+    private val threshold: Int
+) : RecursiveAction() {
+    override fun compute() {
+        if (max - min < threshold) {
+            quickSort(elements, min, max)
+            return
+        }
+        val border = partition(elements, min, max)
+        ForkJoinTask.invokeAll(
+            QuickSortAction(elements, min, border, threshold),
+            QuickSortAction(elements, border + 1, max, threshold)
+        )
+    }
+}
+
+/**
+ * Параллельная быстрая сортировка в ForkJoinPool с parallelism потоками,
+ * части короче threshold сортируются последовательно
+ */
+fun parallelQuickSort(
+    elements: IntArray,
+    threshold: Int = PARALLEL_SORT_THRESHOLD,
+    parallelism: Int = ForkJoinPool.getCommonPoolParallelism()
+) {
+    require(threshold >= 1) { "Threshold must be positive: $threshold" }
+    val pool = ForkJoinPool(parallelism)
+    try {
+        pool.invoke(QuickSortAction(elements, 0, elements.size - 1, threshold))
+    } finally {
+        pool.shutdown()
+    }
+}
+
 fun countingSort(elements: IntArray, limit: Int): IntArray {
     val count = IntArray(limit + 1)
     for (element in elements) {
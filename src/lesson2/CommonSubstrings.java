@@ -0,0 +1,124 @@
+package lesson2;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Наибольшая подстрока, общая для нескольких строк: двоичный поиск по длине и полиномиальные
+ * хеши по модулю 2^61 - 1 со случайным основанием.
+ * <p>
+ * Если общая подстрока длины L есть, то есть и длины L - 1, поэтому длина ищется двоичным поиском.
+ * Для проверки длины L хеши всех подстрок длины L самой короткой из остальных строк кладутся
+ * в LongHashSet, множество сужается по каждой следующей строке, а затем первая строка
+ * просматривается слева направо до первой подстроки с хешем из множества. Разные подстроки
+ * совпадают по хешу с вероятностью порядка N / 2^61 на пару.
+ */
+class CommonSubstrings {
+    private static final long MODULUS = (1L << 61) - 1;
+
+    private final List<String> strings;
+
+    private final long base;
+
+    private CommonSubstrings(List<String> strings) {
+        this.strings = strings;
+        // Основание больше любого char, чтобы разные короткие строки не совпадали
+        this.base = ThreadLocalRandom.current().nextLong(Character.MAX_VALUE + 2, MODULUS - 1);
+    }
+
+    //T = O(L log M), L -- суммарная длина, M -- длина самой короткой строки
+    //R = O(M)
+    static String longestCommonSubstring(List<String> strings) {
+        if (strings.isEmpty()) {
+            throw new IllegalArgumentException("No strings given");
+        }
+        String first = strings.get(0);
+        if (strings.size() == 1) return first;
+        int shortest = Integer.MAX_VALUE;
+        for (String string : strings) {
+            shortest = Math.min(shortest, string.length());
+        }
+        CommonSubstrings search = new CommonSubstrings(strings);
+        int low = 0, high = shortest;
+        int start = 0;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            int found = search.earliestCommon(middle);
+            if (found >= 0) {
+                low = middle;
+                start = found;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return first.substring(start, start + low);
+    }
+
+    // Начало самой ранней в первой строке подстроки длины length, общей для всех строк, или -1
+    private int earliestCommon(int length) {
+        int shortestOther = 1;
+        for (int i = 2; i < strings.size(); i++) {
+            if (strings.get(i).length() < strings.get(shortestOther).length()) shortestOther = i;
+        }
+        long power = power(length);
+        String seed = strings.get(shortestOther);
+        LongHashSet common = new LongHashSet(seed.length() - length + 1);
+        long hash = 0;
+        for (int i = 0; i < seed.length(); i++) {
+            hash = roll(hash, seed, i, length, power);
+            if (i >= length - 1) common.add(hash);
+        }
+        for (int k = 1; k < strings.size() && common.size() > 0; k++) {
+            if (k == shortestOther) continue;
+            String string = strings.get(k);
+            LongHashSet next = new LongHashSet(common.size());
+            hash = 0;
+            for (int i = 0; i < string.length(); i++) {
+                hash = roll(hash, string, i, length, power);
+                if (i >= length - 1 && common.contains(hash)) next.add(hash);
+            }
+            common = next;
+        }
+        if (common.size() == 0) return -1;
+        String first = strings.get(0);
+        hash = 0;
+        for (int i = 0; i < first.length(); i++) {
+            hash = roll(hash, first, i, length, power);
+            if (i >= length - 1 && common.contains(hash)) return i - length + 1;
+        }
+        return -1;
+    }
+
+    // Хеш окна длины length, оканчивающегося в string[i], по хешу окна, оканчивающегося в string[i - 1]
+    private long roll(long hash, String string, int i, int length, long power) {
+        hash = add(multiply(hash, base), string.charAt(i) + 1);
+        if (i >= length) {
+            hash = add(hash, MODULUS - multiply(string.charAt(i - length) + 1, power));
+        }
+        return hash;
+    }
+
+    // base^length по модулю
+    private long power(int length) {
+        long result = 1, factor = base;
+        for (int e = length; e > 0; e >>= 1) {
+            if ((e & 1) != 0) result = multiply(result, factor);
+            factor = multiply(factor, factor);
+        }
+        return result;
+    }
+
+    private static long add(long a, long b) {
+        long sum = a + b;
+        return sum >= MODULUS ? sum - MODULUS : sum;
+    }
+
+    // Произведение до 2^122 сворачивается по 2^61 = 1 (mod 2^61 - 1)
+    private static long multiply(long a, long b) {
+        long low = a * b;
+        long high = Math.multiplyHigh(a, b);
+        long sum = (low & MODULUS) + (low >>> 61) + (high << 3);
+        sum = (sum & MODULUS) + (sum >>> 61);
+        return sum >= MODULUS ? sum - MODULUS : sum;
+    }
+}
@@ -3,9 +3,11 @@ package lesson2;
 import kotlin.NotImplementedError;
 import kotlin.Pair;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 @SuppressWarnings("unused")
 public class JavaAlgorithms {
@@ -101,30 +103,119 @@ public class JavaAlgorithms {
      * Если имеется несколько самых длинных общих подстрок одной длины,
      * вернуть ту из них, которая встречается раньше в строке first.
      */
-    //T = O(N^2)
-    //R = O(N+4)
+    //T = O(N + M) Суффиксный массив и LCP, см. SuffixArray
+    //R = O(N + M)
     static public String longestCommonSubstring(String first, String second) {
+        return SuffixArray.longestCommonSubstring(first, second);
+    }
+
+    /**
+     * Наибольшая подстрока, общая для всех строк strings; из нескольких самых длинных --
+     * та, что раньше встречается в первой строке. Двоичный поиск по длине и хеши подстрок,
+     * см. CommonSubstrings; ответ верен с вероятностью 1 - O(N / 2^61).
+     */
+    //T = O(L log M), L -- суммарная длина строк, M -- длина самой короткой
+    //R = O(M)
+    static public String longestCommonSubstring(List<String> strings) {
+        return CommonSubstrings.longestCommonSubstring(strings);
+    }
+
+    /**
+     * То же динамическим программированием: length[i][j] -- длина общей подстроки, оканчивающейся
+     * в first[i] и second[j]. Хранятся только две строки таблицы, они меняются местами.
+     */
+    //T = O(N*M)
+    //R = O(M)
+    static public String longestCommonSubstringDp(String first, String second) {
+        char[] a = first.toCharArray(), b = second.toCharArray();
+        // previous[j + 1] и current[j + 1] относятся к second[j]; нулевой элемент -- граница таблицы
+        int[] previous = new int[b.length + 1];
+        int[] current = new int[b.length + 1];
+        int maxEnd = 0;
+        int maxLength = 0;
+        for (int i = 0; i < a.length; i++) {
+            char c = a[i];
+            for (int j = 0; j < b.length; j++) {
+                int length = c == b[j] ? previous[j] + 1 : 0;
+                current[j + 1] = length;
+                if (length > maxLength) {
+                    maxLength = length;
+                    maxEnd = i + 1;
+                }
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return first.substring(maxEnd - maxLength, maxEnd);
+    }
+
+    /**
+     * То же динамическим программированием на всех ядрах. length[i][j] зависит только от
+     * length[i - 1][j - 1], поэтому диагонали j - i = const независимы: они делятся между задачами
+     * общего ForkJoinPool, и каждая диагональ проходится одним счётчиком без хранения таблицы.
+     */
+    //T = O(N*M / P)
+    //R = O(N + M)
+    static public String longestCommonSubstringParallel(String first, String second) {
+        char[] a = first.toCharArray(), b = second.toCharArray();
+        if (a.length == 0 || b.length == 0) return "";
+        long best = ForkJoinPool.commonPool().invoke(new DiagonalTask(a, b, 1 - a.length, b.length));
+        int length = (int) (best >>> 32);
+        int start = Integer.MAX_VALUE - (int) best;
+        return first.substring(start, start + length);
+    }
+
+    // Клеток на задачу, меньшие куски диагоналей проходятся последовательно
+    private static final int DIAGONAL_TASK_CELLS = 1 << 16;
 
-        int maxi = 0;
-        int maxlen = 0;
-        if (first.contains(second)) return second;
-        if (second.contains(first)) return first;
-        int[][] words = new int[2][second.length()];
-        for (int i = 0; i < first.length(); i++) {
-            for (int j = 0; j < second.length(); j++) {
-                if (first.charAt(i) == second.charAt(j)) {
-                    if (i > 0 && j > 0)
-                        words[1][j] = words[0][j - 1] + 1;
-                    else words[1][j] = 1;
-                    if (maxlen < words[1][j]) {
-                        maxi = i;
-                        maxlen = words[1][j];
+    // Диагонали j - i из [from, to); результат -- длина << 32 | (MAX_VALUE - начало в first),
+    // так что наибольшее значение -- самая длинная подстрока, а из равных -- самая ранняя
+    private static class DiagonalTask extends RecursiveTask<Long> {
+        private final char[] a, b;
+        private final int from, to;
+
+        DiagonalTask(char[] a, char[] b, int from, int to) {
+            this.a = a;
+            this.b = b;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from == 1 || (long) (to - from) * Math.min(a.length, b.length) <= DIAGONAL_TASK_CELLS) {
+                long best = 0;
+                for (int offset = from; offset < to; offset++) {
+                    best = Math.max(best, diagonal(offset));
+                }
+                return best;
+            }
+            int middle = from + (to - from) / 2;
+            DiagonalTask left = new DiagonalTask(a, b, from, middle);
+            left.fork();
+            long right = new DiagonalTask(a, b, middle, to).compute();
+            return Math.max(left.join(), right);
+        }
+
+        private long diagonal(int offset) {
+            int i = Math.max(0, -offset);
+            int end = Math.min(a.length, b.length - offset);
+            int length = 0;
+            int maxLength = 0, maxStart = 0;
+            for (; i < end; i++) {
+                if (a[i] == b[i + offset]) {
+                    length++;
+                    if (length > maxLength) {
+                        maxLength = length;
+                        maxStart = i - length + 1;
                     }
-                } else words[1][j] = 0;
+                } else {
+                    length = 0;
+                }
             }
-            words[0] = words[1].clone();
+            return (long) maxLength << 32 | (Integer.MAX_VALUE - maxStart);
         }
-        return first.substring(maxi - maxlen + 1, maxi + 1);
     }
 
     /**
@@ -137,26 +228,20 @@ public class JavaAlgorithms {
      * Справка: простым считается число, которое делится нацело только на 1 и на себя.
      * Единица простым числом не считается.
      */
-    //R=O(N)
-    //T=O(N*loglogN) Решето Эратосфена
+    //R = O(sqrt N)
+    //T = O(N^(3/4))
     static public int calcPrimesNumber(int limit) {
-        if (limit <= 1) return 0;
-        boolean[] primes = new boolean[limit + 1];
-        Arrays.fill(primes, true);
-        primes[0] = false;
-        primes[1] = false;
-        int count = 0;
-        for (int i = 2; i < primes.length; ++i) {
-            if (primes[i]) {
-                for (int j = 2; i * j < primes.length; ++j) {
-                    primes[i * j] = false;
+        return (int) calcPrimesNumber((long) limit);
+    }
 
-                }
-            }
-        }
-        for (boolean prime : primes) {
-            if (prime) count++;
-        }
-        return count;
+    // Начиная с этого limit метод Lucy_Hedgehog быстрее решета (см. PrimeCountingBenchmark)
+    static final long PRIME_COUNTING_THRESHOLD = 10_000;
+
+    /**
+     * То же для limit за пределами int. Небольшие limit считаются решетом (PrimeSieve),
+     * большие -- методом Lucy_Hedgehog за O(N^(3/4)) (PrimeCounting)
+     */
+    static public long calcPrimesNumber(long limit) {
+        return limit < PRIME_COUNTING_THRESHOLD ? PrimeSieve.count(limit) : PrimeCounting.count(limit);
     }
 }
@@ -0,0 +1,92 @@
+package lesson2;
+
+import java.util.Arrays;
+
+/**
+ * Множество long с открытой адресацией и линейным пробированием.
+ * <p>
+ * Элементы хранятся в массиве long без упаковки. Пустая ячейка обозначается нулём,
+ * поэтому сам 0 хранится отдельно. Ёмкость -- степень двойки, таблица удваивается,
+ * когда заполняется наполовину. Удаление не поддерживается.
+ */
+public class LongHashSet {
+
+    private long[] keys;
+
+    private int mask;
+
+    private int size = 0;
+
+    private boolean hasZeroKey = false;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2 * expectedSize - 1, 2)) << 1;
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int startingIndex(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) return hasZeroKey;
+        for (int index = startingIndex(key); keys[index] != 0; index = (index + 1) & mask) {
+            if (keys[index] == key) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Добавляет key; возвращает false, если он уже был в множестве
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZeroKey) return false;
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        int index = startingIndex(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) return false;
+            index = (index + 1) & mask;
+        }
+        if (2 * (size + 1) > keys.length) {
+            grow();
+            return add(key);
+        }
+        keys[index] = key;
+        size++;
+        return true;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (long key : oldKeys) {
+            if (key == 0) continue;
+            int index = startingIndex(key);
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+    }
+}
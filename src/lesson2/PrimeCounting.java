@@ -0,0 +1,44 @@
+package lesson2;
+
+/**
+ * Подсчёт простых чисел, не превосходящих limit, без перебора всех чисел (метод Lucy_Hedgehog).
+ * <p>
+ * S(v, p) -- количество чисел из [2, v], которые простые или не имеют простых делителей,
+ * не больших p. Нужны только значения v вида limit / i, их O(sqrt(limit)): v <= sqrt(limit)
+ * хранятся в small[v], остальные -- в large[i] для v = limit / i. Переход от p - 1 к простому p
+ * вычитает числа, наименьший простой делитель которых p:
+ * S(v, p) = S(v, p - 1) - (S(v / p, p - 1) - S(p - 1, p - 1)) для v >= p * p.
+ * Ответ -- S(limit, sqrt(limit)).
+ */
+class PrimeCounting {
+
+    private PrimeCounting() {
+    }
+
+    //T = O(N^(3/4))
+    //R = O(sqrt N)
+    static long count(long limit) {
+        if (limit < 2) return 0;
+        int root = (int) PrimeSieve.sqrt(limit);
+        long[] small = new long[root + 1];
+        long[] large = new long[root + 1];
+        for (int v = 1; v <= root; v++) {
+            small[v] = v - 1;
+            large[v] = limit / v - 1;
+        }
+        for (int p = 2; p <= root; p++) {
+            if (small[p] == small[p - 1]) continue;
+            long below = small[p - 1];
+            long square = (long) p * p;
+            int end = (int) Math.min(root, limit / square);
+            for (int i = 1; i <= end; i++) {
+                long d = (long) i * p;
+                large[i] -= (d <= root ? large[(int) d] : small[(int) (limit / d)]) - below;
+            }
+            for (int v = root; v >= square; v--) {
+                small[v] -= small[v / p] - below;
+            }
+        }
+        return large[1];
+    }
+}
@@ -0,0 +1,130 @@
+package lesson2;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Подсчёт простых чисел, не превосходящих limit, сегментированным решетом Эратосфена.
+ * <p>
+ * Хранятся только нечётные числа: бит k сегмента соответствует числу 2 * (low + k) + 1.
+ * Сегмент -- SEGMENT_BITS бит (32 Кбайт), помещается в кэш L1. Составные числа вычёркиваются
+ * простыми до sqrt(limit), начиная с p * p. Сегменты независимы, поэтому их группы
+ * обрабатываются параллельно задачами ForkJoinPool, у каждой задачи свой буфер сегмента.
+ * Память -- O(sqrt(limit)) на простые-делители плюс буфер на поток.
+ */
+class PrimeSieve {
+    private static final int SEGMENT_WORDS = 1 << 12;
+    private static final int SEGMENT_BITS = SEGMENT_WORDS * 64;
+
+    // Не больше стольких сегментов последовательно в одной задаче
+    private static final int SEGMENTS_PER_TASK = 8;
+
+    private PrimeSieve() {
+    }
+
+    static long count(long limit) {
+        return count(limit, ForkJoinPool.commonPool());
+    }
+
+    //T = O(N log log N)
+    //R = O(sqrt N)
+    static long count(long limit, ForkJoinPool pool) {
+        if (limit < 2) return 0;
+        int[] basePrimes = oddPrimes((int) sqrt(limit));
+        // Индексы нечётных чисел 1, 3, ..., не больших limit: [0, oddCount)
+        long oddCount = (limit + 1) / 2;
+        long segments = (oddCount + SEGMENT_BITS - 1) / SEGMENT_BITS;
+        // Невычеркнутая единица не простая, зато не хранится простая двойка -- они взаимно уничтожаются
+        return pool.invoke(new SieveTask(basePrimes, oddCount, 0, segments));
+    }
+
+    private static class SieveTask extends RecursiveTask<Long> {
+        private final int[] basePrimes;
+        private final long oddCount;
+        private final long fromSegment, toSegment;
+
+        SieveTask(int[] basePrimes, long oddCount, long fromSegment, long toSegment) {
+            this.basePrimes = basePrimes;
+            this.oddCount = oddCount;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toSegment - fromSegment <= SEGMENTS_PER_TASK) {
+                long[] bits = new long[SEGMENT_WORDS];
+                long unmarked = 0;
+                for (long segment = fromSegment; segment < toSegment; segment++) {
+                    unmarked += sieveSegment(bits, basePrimes, segment * SEGMENT_BITS, oddCount);
+                }
+                return unmarked;
+            }
+            long middle = (fromSegment + toSegment) >>> 1;
+            SieveTask left = new SieveTask(basePrimes, oddCount, fromSegment, middle);
+            left.fork();
+            long right = new SieveTask(basePrimes, oddCount, middle, toSegment).compute();
+            return left.join() + right;
+        }
+    }
+
+    // Вычёркивает составные среди нечётных с индексами [low, min(low + SEGMENT_BITS, oddCount))
+    // и возвращает число невычеркнутых
+    private static int sieveSegment(long[] bits, int[] basePrimes, long low, long oddCount) {
+        int length = (int) Math.min(SEGMENT_BITS, oddCount - low);
+        Arrays.fill(bits, 0L);
+        long lowValue = 2 * low + 1;
+        long highValue = 2 * (low + length) - 1;
+        for (int p : basePrimes) {
+            long square = (long) p * p;
+            if (square > highValue) break;
+            long first;
+            if (square >= lowValue) {
+                first = square;
+            } else {
+                first = (lowValue + p - 1) / p * p;
+                if ((first & 1) == 0) first += p;
+            }
+            // Соседние нечётные кратные p отстоят на 2p, то есть на p индексов
+            for (int i = (int) ((first - 1) / 2 - low); i < length; i += p) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        int marked = 0;
+        int fullWords = length >>> 6;
+        for (int w = 0; w < fullWords; w++) {
+            marked += Long.bitCount(bits[w]);
+        }
+        if ((length & 63) != 0) {
+            marked += Long.bitCount(bits[fullWords] & ((1L << length) - 1));
+        }
+        return length - marked;
+    }
+
+    // Нечётные простые, не большие limit, простым решетом
+    private static int[] oddPrimes(int limit) {
+        boolean[] composite = new boolean[limit + 1];
+        int count = 0;
+        for (int i = 3; i <= limit; i += 2) {
+            if (composite[i]) continue;
+            count++;
+            for (long j = (long) i * i; j <= limit; j += 2 * i) {
+                composite[(int) j] = true;
+            }
+        }
+        int[] primes = new int[count];
+        for (int i = 3, k = 0; i <= limit; i += 2) {
+            if (!composite[i]) primes[k++] = i;
+        }
+        return primes;
+    }
+
+    // Целая часть квадратного корня
+    static long sqrt(long n) {
+        long root = (long) Math.sqrt((double) n);
+        while (root * root > n) root--;
+        while ((root + 1) * (root + 1) <= n) root++;
+        return root;
+    }
+}
@@ -0,0 +1,230 @@
+package lesson2;
+
+import java.util.Arrays;
+
+/**
+ * Суффиксный массив (алгоритм SA-IS, линейное время) и массив LCP (алгоритм Касаи),
+ * на их основе -- наибольшая общая подстрока двух строк за O(N + M).
+ * <p>
+ * Текст задаётся массивом int в алфавите [0, alphabet), последний символ -- 0, и он
+ * не встречается больше нигде в тексте.
+ */
+class SuffixArray {
+
+    private SuffixArray() {
+    }
+
+    //T = O(N + alphabet)
+    //R = O(N + alphabet)
+    static int[] build(int[] text, int alphabet) {
+        int[] sa = new int[text.length];
+        sais(text, sa, text.length, alphabet);
+        return sa;
+    }
+
+    // S-тип: суффикс меньше следующего; LMS -- S-позиция, перед которой L-позиция
+    private static boolean isLms(boolean[] sType, int i) {
+        return i > 0 && sType[i] && !sType[i - 1];
+    }
+
+    private static void sais(int[] text, int[] sa, int n, int alphabet) {
+        boolean[] sType = new boolean[n];
+        sType[n - 1] = true;
+        for (int i = n - 2; i >= 0; i--) {
+            sType[i] = text[i] < text[i + 1] || text[i] == text[i + 1] && sType[i + 1];
+        }
+        int[] bucket = new int[alphabet];
+
+        // 1. Сортировка LMS-подстрок: LMS-позиции в концы корзин и индуцирование
+        Arrays.fill(sa, 0, n, -1);
+        bucketEnds(text, n, bucket);
+        for (int i = 1; i < n; i++) {
+            if (isLms(sType, i)) sa[--bucket[text[i]]] = i;
+        }
+        induce(text, sa, n, sType, bucket);
+
+        // 2. Имена LMS-подстрок в порядке сортировки; одинаковые подстроки получают одно имя
+        int lmsCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (isLms(sType, sa[i])) sa[lmsCount++] = sa[i];
+        }
+        Arrays.fill(sa, lmsCount, n, -1);
+        int names = 0;
+        int previous = -1;
+        for (int i = 0; i < lmsCount; i++) {
+            int position = sa[i];
+            boolean differs = previous < 0;
+            for (int d = 0; !differs; d++) {
+                if (text[position + d] != text[previous + d] || sType[position + d] != sType[previous + d]) {
+                    differs = true;
+                } else if (d > 0 && (isLms(sType, position + d) || isLms(sType, previous + d))) {
+                    break;
+                }
+            }
+            if (differs) {
+                names++;
+                previous = position;
+            }
+            // Позиции LMS отстоят хотя бы на 2, поэтому position / 2 не совпадают
+            sa[lmsCount + position / 2] = names - 1;
+        }
+        for (int i = n - 1, j = n - 1; i >= lmsCount; i--) {
+            if (sa[i] >= 0) sa[j--] = sa[i];
+        }
+
+        // 3. Суффиксный массив сокращённой строки: рекурсивно, если имена не все различны
+        int[] reduced = Arrays.copyOfRange(sa, n - lmsCount, n);
+        int[] reducedSa = new int[lmsCount];
+        if (names < lmsCount) {
+            sais(reduced, reducedSa, lmsCount, names);
+        } else {
+            for (int i = 0; i < lmsCount; i++) {
+                reducedSa[reduced[i]] = i;
+            }
+        }
+
+        // 4. LMS-суффиксы в найденном порядке в концы корзин и окончательное индуцирование
+        for (int i = 1, j = 0; i < n; i++) {
+            if (isLms(sType, i)) reduced[j++] = i;
+        }
+        Arrays.fill(sa, 0, n, -1);
+        bucketEnds(text, n, bucket);
+        for (int i = lmsCount - 1; i >= 0; i--) {
+            int position = reduced[reducedSa[i]];
+            sa[--bucket[text[position]]] = position;
+        }
+        induce(text, sa, n, sType, bucket);
+    }
+
+    // L-суффиксы -- проходом слева направо от начал корзин, S-суффиксы -- справа налево от концов
+    private static void induce(int[] text, int[] sa, int n, boolean[] sType, int[] bucket) {
+        bucketStarts(text, n, bucket);
+        for (int i = 0; i < n; i++) {
+            int j = sa[i] - 1;
+            if (j >= 0 && !sType[j]) sa[bucket[text[j]]++] = j;
+        }
+        bucketEnds(text, n, bucket);
+        for (int i = n - 1; i >= 0; i--) {
+            int j = sa[i] - 1;
+            if (j >= 0 && sType[j]) sa[--bucket[text[j]]] = j;
+        }
+    }
+
+    private static void bucketStarts(int[] text, int n, int[] bucket) {
+        bucketEnds(text, n, bucket);
+        for (int c = bucket.length - 1; c > 0; c--) {
+            bucket[c] = bucket[c - 1];
+        }
+        bucket[0] = 0;
+    }
+
+    private static void bucketEnds(int[] text, int n, int[] bucket) {
+        Arrays.fill(bucket, 0);
+        for (int i = 0; i < n; i++) {
+            bucket[text[i]]++;
+        }
+        for (int c = 1; c < bucket.length; c++) {
+            bucket[c] += bucket[c - 1];
+        }
+    }
+
+    /**
+     * lcp[k] -- длина общего префикса суффиксов sa[k - 1] и sa[k], lcp[0] = 0
+     */
+    //T = O(N)
+    //R = O(N)
+    static int[] lcp(int[] text, int[] sa) {
+        int n = text.length;
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[sa[i]] = i;
+        }
+        int[] lcp = new int[n];
+        // Общий префикс суффикса i + 1 с его соседом не короче, чем у суффикса i, минус один
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            if (rank[i] == 0) {
+                h = 0;
+                continue;
+            }
+            int j = sa[rank[i] - 1];
+            while (text[i + h] == text[j + h]) h++;
+            lcp[rank[i]] = h;
+            if (h > 0) h--;
+        }
+        return lcp;
+    }
+
+    /**
+     * Наибольшая общая подстрока; из нескольких самых длинных -- та, что раньше встречается в first.
+     * <p>
+     * Суффиксный массив строится для first + разделитель + second + терминатор. Длина ответа --
+     * наибольший LCP соседних суффиксов из разных строк. Все суффиксы, начинающиеся с общей
+     * подстроки этой длины, образуют в массиве непрерывный блок с LCP >= длины, поэтому
+     * самое раннее вхождение в first -- наименьшая позиция first в блоках, где есть и суффиксы second.
+     */
+    //T = O(N + M)
+    //R = O(N + M)
+    static String longestCommonSubstring(String first, String second) {
+        int separator = first.length();
+        int[] text = encode(first, second);
+        int n = text.length;
+        int[] sa = build(text, alphabet(text));
+        int[] lcp = lcp(text, sa);
+
+        int length = 0;
+        for (int k = 1; k < n; k++) {
+            if (lcp[k] > length && (sa[k - 1] < separator) != (sa[k] < separator)) {
+                length = lcp[k];
+            }
+        }
+        if (length == 0) return "";
+        int start = Integer.MAX_VALUE;
+        int blockFirst = Integer.MAX_VALUE;
+        boolean blockSecond = false;
+        for (int k = 0; k <= n; k++) {
+            if (k == n || lcp[k] < length) {
+                if (blockSecond && blockFirst < start) start = blockFirst;
+                if (k == n) break;
+                blockFirst = Integer.MAX_VALUE;
+                blockSecond = false;
+            }
+            if (sa[k] < separator) blockFirst = Math.min(blockFirst, sa[k]);
+            else blockSecond = true;
+        }
+        return first.substring(start, start + length);
+    }
+
+    // Символы строк сжимаются в номера от 2 в порядке возрастания, 1 -- разделитель, 0 -- терминатор
+    private static int[] encode(String first, String second) {
+        int[] rank = new int[Character.MAX_VALUE + 1];
+        for (int i = 0; i < first.length(); i++) {
+            rank[first.charAt(i)] = 1;
+        }
+        for (int i = 0; i < second.length(); i++) {
+            rank[second.charAt(i)] = 1;
+        }
+        for (int c = 0, next = 2; c < rank.length; c++) {
+            if (rank[c] != 0) rank[c] = next++;
+        }
+        int[] text = new int[first.length() + second.length() + 2];
+        int n = 0;
+        for (int i = 0; i < first.length(); i++) {
+            text[n++] = rank[first.charAt(i)];
+        }
+        text[n++] = 1;
+        for (int i = 0; i < second.length(); i++) {
+            text[n++] = rank[second.charAt(i)];
+        }
+        text[n] = 0;
+        return text;
+    }
+
+    private static int alphabet(int[] text) {
+        int max = 0;
+        for (int c : text) {
+            max = Math.max(max, c);
+        }
+        return max + 1;
+    }
+}
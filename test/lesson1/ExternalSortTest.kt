@@ -0,0 +1,58 @@
+package lesson1
+
+import org.junit.jupiter.api.Tag
+import java.io.File
+import java.util.*
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ExternalSortTest : AbstractFileTests() {
+
+    private fun generateLines(size: Int): List<String> {
+        val random = Random()
+        return List(size) { "${random.nextInt(size)} ${random.nextInt(1000)}" }
+    }
+
+    private fun sortAndCheck(lines: List<String>, comparator: Comparator<String>, memoryBudget: Long) {
+        try {
+            File("temp_unsorted.txt").writeText(lines.joinToString("") { it + "\n" })
+            ExternalSort(comparator, memoryBudget).sort("temp_unsorted.txt", "temp_sorted.txt")
+            assertEquals(lines.sortedWith(comparator), File("temp_sorted.txt").readLines())
+        } finally {
+            File("temp_unsorted.txt").delete()
+            File("temp_sorted.txt").delete()
+        }
+    }
+
+    @Test
+    @Tag("Example")
+    fun sortInMemory() {
+        sortAndCheck(generateLines(1000), naturalOrder(), 1L shl 30)
+    }
+
+    @Test
+    @Tag("Example")
+    fun sortWithSpills() {
+        // Бюджет меньше двух буферов чтения: много серий и многопроходное слияние
+        sortAndCheck(generateLines(100_000), naturalOrder(), 1L shl 16)
+        sortAndCheck(generateLines(100_000), naturalOrder(), 1L shl 20)
+    }
+
+    @Test
+    @Tag("Example")
+    fun sortIsStable() {
+        // Сравнение только по первому числу: порядок вторых чисел внутри группы должен сохраниться
+        sortAndCheck(generateLines(50_000), compareBy { it.substringBefore(' ').toInt() }, 1L shl 16)
+    }
+
+    @Test
+    @Tag("Example")
+    fun sortEmpty() {
+        try {
+            ExternalSort(naturalOrder(), 1024).sort("input/empty.txt", "temp.txt")
+            assertFileContent("temp.txt", "")
+        } finally {
+            File("temp.txt").delete()
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package lesson1
+
+import org.junit.jupiter.api.Tag
+import java.util.*
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class IntIntMapTest {
+
+    @Test
+    @Tag("Example")
+    fun addTo() {
+        val random = Random()
+        val map = IntIntMap()
+        val expected = mutableMapOf<Int, Int>()
+        for (i in 1..100_000) {
+            val key = random.nextInt(1000) - 500
+            val delta = random.nextInt(10)
+            assertEquals(expected.getOrDefault(key, 0) + delta, map.addTo(key, delta))
+            expected[key] = expected.getOrDefault(key, 0) + delta
+        }
+        assertEquals(expected.size, map.size())
+        for ((key, value) in expected) {
+            assertTrue(map.containsKey(key))
+            assertEquals(value, map.getOrDefault(key, -1))
+        }
+        assertFalse(map.containsKey(1000))
+        assertEquals(-1, map.getOrDefault(1000, -1))
+        val visited = mutableMapOf<Int, Int>()
+        map.forEach { key, value -> visited[key] = value }
+        assertEquals(expected, visited)
+        map.clear()
+        assertEquals(0, map.size())
+        assertFalse(map.containsKey(0))
+    }
+
+    @Test
+    @Tag("Example")
+    fun put() {
+        val map = IntIntMap(1)
+        for (i in -1000..1000) {
+            map.put(i, i * i)
+        }
+        map.put(0, 42)
+        assertEquals(2001, map.size())
+        assertEquals(42, map.getOrDefault(0, -1))
+        assertEquals(1000000, map.getOrDefault(-1000, -1))
+    }
+
+    @Test
+    @Tag("Example")
+    fun intArrayList() {
+        val list = IntArrayList(1)
+        assertTrue(list.isEmpty)
+        for (i in 0 until 1000) {
+            list.add(i * 3)
+        }
+        assertEquals(1000, list.size())
+        assertEquals(999 * 3, list.get(999))
+        list.set(5, -1)
+        assertEquals(-1, list.toArray()[5])
+        list.clear()
+        assertEquals(0, list.size())
+    }
+}
@@ -3,7 +3,9 @@ package lesson1;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,6 +77,23 @@ public class SortsTest {
         assertSorted(arr, "MERGE SORT LONG");
     }
 
+    @Test
+    @Tag("Example")
+    public void longBottomUpMergeSort() {
+        int LENGTH = 65536 + 17;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        int[] buffer = new int[LENGTH];
+        Sorts.bottomUpMergeSort(arr, buffer, 24);
+        assertArrayEquals(expected, arr);
+        Sorts.bottomUpMergeSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
     @Test
     @Tag("Example")
     public void longHeapSort() {
@@ -87,6 +106,34 @@ public class SortsTest {
         assertSorted(arr, "HEAP SORT LONG");
     }
 
+    @Test
+    @Tag("Example")
+    public void longFloydHeapSort() {
+        int LENGTH = 65536;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.floydHeapSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @Tag("Example")
+    public void longQuaternaryHeapSort() {
+        int LENGTH = 65536;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.quaternaryHeapSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
     @Test
     @Tag("Example")
     public void quickSort() {
@@ -121,4 +168,261 @@ public class SortsTest {
         Sorts.quickSort(arr);
         assertArrayEquals(arr, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Tag("Example")
+    public void longParallelCountingSort() {
+        int LENGTH = 1 << 20;
+        int LIMIT = 7730;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt(LIMIT + 1);
+        }
+        int[] expected = Sorts.countingSort(arr, LIMIT);
+        int[] out = new int[LENGTH];
+        Sorts.parallelCountingSort(arr, LIMIT, out);
+        assertArrayEquals(expected, out);
+        Sorts.parallelCountingSort(arr, LIMIT);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @Tag("Example")
+    public void longRadixSort() {
+        int LENGTH = 1 << 18;
+        int[] arr = new int[LENGTH];
+        long[] longArr = new long[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+            longArr[i] = r.nextLong();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.radixSort(arr);
+        assertArrayEquals(expected, arr);
+        long[] expectedLong = longArr.clone();
+        Arrays.sort(expectedLong);
+        Sorts.radixSort(longArr);
+        assertArrayEquals(expectedLong, longArr);
+    }
+
+    @Test
+    @Tag("Example")
+    public void longParallelMergeSort() {
+        int LENGTH = 1 << 20;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.parallelMergeSort(arr, 1000, 4);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @Tag("Example")
+    public void longParallelQuickSort() {
+        int LENGTH = 1 << 20;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.parallelQuickSort(arr, 1000, 4);
+        assertArrayEquals(expected, arr);
+        assertThrows(IllegalArgumentException.class, () -> Sorts.parallelQuickSort(new int[] { 3, 1, 2, 5, 4 }, 0, 2));
+    }
+
+    @Test
+    @Tag("Example")
+    public void longThreeWayQuickSort() {
+        int LENGTH = 65536;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt(10);
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.threeWayQuickSort(arr);
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @Tag("Example")
+    public void longDualPivotQuickSort() {
+        int LENGTH = 65536;
+        int[] arr = new int[LENGTH];
+        int[] duplicates = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt();
+            duplicates[i] = r.nextInt(3);
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        Sorts.dualPivotQuickSort(arr);
+        assertArrayEquals(expected, arr);
+        expected = duplicates.clone();
+        Arrays.sort(expected);
+        Sorts.dualPivotQuickSort(duplicates);
+        assertArrayEquals(expected, duplicates);
+    }
+
+    @Test
+    @Tag("Example")
+    public void longPrimitiveSorts() {
+        int LENGTH = 65536;
+        long[] longs = new long[LENGTH];
+        short[] shorts = new short[LENGTH];
+        double[] doubles = new double[LENGTH];
+        double[] specials = new double[] { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+        for (int i=0; i<LENGTH; i++) {
+            longs[i] = r.nextLong();
+            shorts[i] = (short) r.nextInt();
+            doubles[i] = i % 10 == 0 ? specials[r.nextInt(specials.length)] : r.nextGaussian();
+        }
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        short[] expectedShorts = shorts.clone();
+        Arrays.sort(expectedShorts);
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        for (int algorithm = 0; algorithm < 4; algorithm++) {
+            long[] longArr = longs.clone();
+            short[] shortArr = shorts.clone();
+            double[] doubleArr = doubles.clone();
+            switch (algorithm) {
+                case 0 -> {
+                    Sorts.mergeSort(longArr);
+                    Sorts.mergeSort(shortArr);
+                    Sorts.mergeSort(doubleArr);
+                }
+                case 1 -> {
+                    Sorts.heapSort(longArr);
+                    Sorts.heapSort(shortArr);
+                    Sorts.heapSort(doubleArr);
+                }
+                case 2 -> {
+                    Sorts.quickSort(longArr);
+                    Sorts.quickSort(shortArr);
+                    Sorts.quickSort(doubleArr);
+                }
+                default -> {
+                    Sorts.radixSort(longArr);
+                    Sorts.radixSort(shortArr);
+                    Sorts.radixSort(doubleArr);
+                }
+            }
+            assertArrayEquals(expectedLongs, longArr, "ALGORITHM " + algorithm);
+            assertArrayEquals(expectedShorts, shortArr, "ALGORITHM " + algorithm);
+            assertArrayEquals(expectedDoubles, doubleArr, "ALGORITHM " + algorithm);
+        }
+    }
+
+    private static int[] generate(String distribution, int length) {
+        int[] arr = new int[length];
+        for (int i=0; i<length; i++) {
+            switch (distribution) {
+                case "sorted" -> arr[i] = i;
+                case "reversed" -> arr[i] = length - i;
+                case "sawtooth" -> arr[i] = i % 1000;
+                default -> arr[i] = r.nextInt();
+            }
+        }
+        return arr;
+    }
+
+    @Test
+    @Tag("Example")
+    public void longAdaptiveSort() {
+        int LENGTH = 65536 + 3;
+        for (String distribution : new String[] { "sorted", "reversed", "sawtooth", "random" }) {
+            int[] arr = generate(distribution, LENGTH);
+            int[] expected = arr.clone();
+            Arrays.sort(expected);
+            Sorts.adaptiveSort(arr);
+            assertArrayEquals(expected, arr, "ADAPTIVE SORT " + distribution);
+        }
+    }
+
+    private record Reading(int sensor, int value) {}
+
+    private static Reading[] generateReadings(int length) {
+        Reading[] readings = new Reading[length];
+        for (int i=0; i<length; i++) {
+            readings[i] = new Reading(r.nextInt(1000) - 500, i);
+        }
+        return readings;
+    }
+
+    @Test
+    @Tag("Example")
+    public void longComparatorSorts() {
+        int LENGTH = 65536;
+        Reading[] readings = generateReadings(LENGTH);
+        Reading[] expected = readings.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Reading::sensor));
+
+        Reading[] arr = readings.clone();
+        Sorts.mergeSort(arr, Comparator.comparingInt(Reading::sensor));
+        assertArrayEquals(expected, arr, "MERGE SORT COMPARATOR");
+
+        arr = readings.clone();
+        Sorts.sortByKey(arr, Reading::sensor);
+        assertArrayEquals(expected, arr, "SORT BY KEY");
+
+        int[] order = Sorts.argsort(readings, Reading::sensor);
+        int[] comparatorOrder = Sorts.argsort(readings, Comparator.comparingInt(Reading::sensor));
+        assertArrayEquals(order, comparatorOrder, "ARGSORT");
+        for (int i=0; i<LENGTH; i++) {
+            assertEquals(expected[i], readings[order[i]]);
+        }
+    }
+
+    @Test
+    @Tag("Example")
+    public void longSelection() {
+        int LENGTH = 65536;
+        int[] arr = new int[LENGTH];
+        for (int i=0; i<LENGTH; i++) {
+            arr[i] = r.nextInt(1000);
+        }
+        int[] expected = arr.clone();
+        Arrays.sort(expected);
+        for (int k : new int[] { 0, 1, LENGTH / 2, LENGTH - 1 }) {
+            assertEquals(expected[k], Sorts.quickSelect(arr.clone(), k));
+            int[] partial = arr.clone();
+            Sorts.nthElement(partial, k);
+            for (int i=0; i<LENGTH; i++) {
+                assertTrue(i <= k ? partial[i] <= partial[k] : partial[i] >= partial[k]);
+            }
+            partial = arr.clone();
+            Sorts.partialSort(partial, k);
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(partial, k));
+            assertArrayEquals(Arrays.copyOf(expected, k), Sorts.smallest(Arrays.stream(arr).iterator(), k));
+        }
+        assertArrayEquals(expected, Sorts.smallest(Arrays.stream(arr).iterator(), LENGTH + 10));
+    }
+
+    @Test
+    @Tag("Example")
+    public void networkSort() {
+        // Принцип нулей и единиц: сеть, сортирующая все 0-1 входы, сортирует любые
+        for (int n = 0; n <= Sorts.NETWORK_SORT_LIMIT; n++) {
+            for (int mask = 0; mask < 1 << n; mask++) {
+                int[] arr = new int[n];
+                for (int i = 0; i < n; i++) {
+                    arr[i] = mask >> i & 1;
+                }
+                Sorts.networkSort(arr);
+                for (int i = 1; i < n; i++) {
+                    assertTrue(arr[i - 1] <= arr[i]);
+                }
+            }
+        }
+        int[] arr = { Integer.MAX_VALUE, -3, 0, Integer.MIN_VALUE, 7, -3 };
+        Sorts.networkSort(arr);
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, -3, -3, 0, 7, Integer.MAX_VALUE }, arr);
+    }
+}
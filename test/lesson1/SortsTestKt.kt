@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions.assertArrayEquals
 import org.junit.jupiter.api.Tag
 import kotlin.test.Test
 import java.util.*
+import kotlin.test.assertFailsWith
 import kotlin.test.assertTrue
 
 class SortsTestKt {
@@ -144,4 +145,26 @@ class SortsTestKt {
         librarySortForMutable(list)
         assertSorted(list, "LIBRARY SORT FOR MUTABLE")
     }
-}
\ No newline at end of file
+
+    @Test
+    @Tag("Example")
+    fun longParallelMergeSort() {
+        val length = 1 shl 20
+        val arr = IntArray(length) { r.nextInt() }
+        val expected = arr.sortedArray()
+        parallelMergeSort(arr, 1000, 4)
+        assertArrayEquals(expected, arr)
+        assertFailsWith<IllegalArgumentException> { parallelMergeSort(intArrayOf(3, 1, 2, 5, 4), 0, 2) }
+    }
+
+    @Test
+    @Tag("Example")
+    fun longParallelQuickSort() {
+        val length = 1 shl 20
+        val arr = IntArray(length) { r.nextInt() }
+        val expected = arr.sortedArray()
+        parallelQuickSort(arr, 1000, 4)
+        assertArrayEquals(expected, arr)
+        assertFailsWith<IllegalArgumentException> { parallelQuickSort(intArrayOf(3, 1, 2, 5, 4), 0, 2) }
+    }
+}
@@ -1,5 +1,6 @@
 package lesson1
 
+import org.junit.jupiter.api.Assertions.assertArrayEquals
 import org.junit.jupiter.api.Tag
 import kotlin.test.Test
 
@@ -34,4 +35,21 @@ class TaskTestsJava : AbstractTaskTests() {
     fun testMergeArraysJava() {
         mergeArrays { first, second -> JavaTasks.mergeArrays<Int?>(first, second) }
     }
+
+    @Test
+    @Tag("2")
+    fun testMergePrimitiveArraysJava() {
+        val random = java.util.Random()
+        for ((firstSize, secondSize) in listOf(0 to 10, 10 to 0, 1000 to 1000, 10 to 1_000_000, 1_000_000 to 10)) {
+            val first = IntArray(firstSize) { random.nextInt(1000) }.sortedArray()
+            val rest = IntArray(secondSize) { random.nextInt(1000) }.sortedArray()
+            val second = IntArray(firstSize) + rest
+            val expected = (first + rest).sortedArray()
+            JavaTasks.mergeArrays(first, second)
+            assertArrayEquals(expected, second)
+            val longSecond = LongArray(firstSize) + rest.map { it.toLong() }
+            JavaTasks.mergeArrays(first.map { it.toLong() }.toLongArray(), longSecond)
+            assertArrayEquals(expected.map { it.toLong() }.toLongArray(), longSecond)
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package lesson2
 
 import org.junit.jupiter.api.Tag
+import java.util.*
 import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
 
 class AlgorithmsTestsJava : AbstractAlgorithmsTests() {
     @Test
@@ -22,9 +25,88 @@ class AlgorithmsTestsJava : AbstractAlgorithmsTests() {
         longestCommonSubstring { first, second -> JavaAlgorithms.longestCommonSubstring(first, second) }
     }
 
+    @Test
+    @Tag("4")
+    fun testLongestCommonSubstringDpJava() {
+        longestCommonSubstring { first, second -> JavaAlgorithms.longestCommonSubstringDp(first, second) }
+    }
+
+    @Test
+    @Tag("4")
+    fun testLongestCommonSubstringParallelJava() {
+        longestCommonSubstring { first, second -> JavaAlgorithms.longestCommonSubstringParallel(first, second) }
+    }
+
+    @Test
+    @Tag("4")
+    fun testLongestCommonSubstringRandomJava() {
+        // Маленький алфавит даёт много общих подстрок одной длины: проверяется выбор самой ранней в first
+        val random = Random(42)
+        for (iteration in 1..2000) {
+            val alphabet = 1 + random.nextInt(4)
+            val first = String(CharArray(1 + random.nextInt(40)) { 'a' + random.nextInt(alphabet) })
+            val second = String(CharArray(1 + random.nextInt(40)) { 'a' + random.nextInt(alphabet) })
+            val expected = JavaAlgorithms.longestCommonSubstringDp(first, second)
+            assertEquals(expected, JavaAlgorithms.longestCommonSubstring(first, second), "$first / $second")
+            assertEquals(expected, JavaAlgorithms.longestCommonSubstringParallel(first, second), "$first / $second")
+        }
+        assertEquals("", JavaAlgorithms.longestCommonSubstring("", "abc"))
+        assertEquals("", JavaAlgorithms.longestCommonSubstring("abc", ""))
+        assertEquals("", JavaAlgorithms.longestCommonSubstring("abc", "xyz"))
+        assertEquals("a", JavaAlgorithms.longestCommonSubstring("ab", "ba\uFFFF"))
+    }
+
+    @Test
+    @Tag("4")
+    fun testLongestCommonSubstringOfManyJava() {
+        longestCommonSubstring { first, second -> JavaAlgorithms.longestCommonSubstring(listOf(first, second)) }
+        assertEquals("СЕРВ", JavaAlgorithms.longestCommonSubstring(listOf("ОБСЕРВАТОРИЯ", "КОНСЕРВАТОРЫ", "РЕЗЕРВ СЕРВЕРА")))
+        assertEquals("abc", JavaAlgorithms.longestCommonSubstring(listOf("abc")))
+        assertEquals("", JavaAlgorithms.longestCommonSubstring(listOf("abc", "bcd", "cde", "")))
+        assertFailsWith<IllegalArgumentException> { JavaAlgorithms.longestCommonSubstring(listOf()) }
+        val random = Random(42)
+        for (iteration in 1..1000) {
+            val alphabet = 1 + random.nextInt(3)
+            val strings = List(1 + random.nextInt(5)) {
+                String(CharArray(random.nextInt(30)) { 'a' + random.nextInt(alphabet) })
+            }
+            // Перебор: от самой большой длины к меньшим, от начала первой строки к концу
+            val expected = (strings.minOf { it.length } downTo 0).asSequence().mapNotNull { length ->
+                (0..strings[0].length - length).map { strings[0].substring(it, it + length) }
+                    .firstOrNull { candidate -> strings.all { candidate in it } }
+            }.first()
+            assertEquals(expected, JavaAlgorithms.longestCommonSubstring(strings), strings.toString())
+        }
+    }
+
     @Test
     @Tag("3")
     fun testCalcPrimesNumberJava() {
         calcPrimesNumber { JavaAlgorithms.calcPrimesNumber(it) }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Tag("3")
+    fun testCalcPrimesNumberLongJava() {
+        // Границы сегментов решета (по 2^18 нечётных чисел) сверяются с простым решетом
+        val composite = BooleanArray(1_100_001)
+        for (i in 2..1_100_000) {
+            if (!composite[i]) for (j in i.toLong() * i..1_100_000L step i.toLong()) composite[j.toInt()] = true
+        }
+        var count = 0
+        val expected = IntArray(1_100_001) { if (it >= 2 && !composite[it]) ++count else count }
+        val limits = listOf(0, 1, 2, 3, 4, 24, 25, 26, 9_999, 10_000, 10_001, 524_287, 524_288, 524_289, 524_290,
+            1_048_575, 1_048_576, 1_048_577, 1_100_000)
+        for (limit in limits) {
+            assertEquals(expected[limit].toLong(), PrimeSieve.count(limit.toLong()))
+            assertEquals(expected[limit].toLong(), PrimeCounting.count(limit.toLong()))
+            assertEquals(expected[limit].toLong(), JavaAlgorithms.calcPrimesNumber(limit.toLong()))
+        }
+        assertEquals(5_761_455L, PrimeSieve.count(100_000_000L))
+        assertEquals(105_097_565L, PrimeSieve.count(Int.MAX_VALUE.toLong()))
+        assertEquals(50_847_534L, JavaAlgorithms.calcPrimesNumber(1_000_000_000L))
+        assertEquals(105_097_565L, JavaAlgorithms.calcPrimesNumber(Int.MAX_VALUE.toLong()))
+        assertEquals(455_052_511L, JavaAlgorithms.calcPrimesNumber(10_000_000_000L))
+        assertEquals(37_607_912_018L, JavaAlgorithms.calcPrimesNumber(1_000_000_000_000L))
+    }
+}
@@ -0,0 +1,31 @@
+package lesson2
+
+import org.junit.jupiter.api.Tag
+import java.util.*
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class LongHashSetTest {
+
+    @Test
+    @Tag("Example")
+    fun addAndContains() {
+        val random = Random()
+        val set = LongHashSet()
+        val expected = mutableSetOf<Long>()
+        for (i in 1..100_000) {
+            val key = if (i % 1000 == 0) 0L else random.nextLong() % 50_000
+            assertEquals(expected.add(key), set.add(key))
+        }
+        assertEquals(expected.size, set.size())
+        for (key in expected) {
+            assertTrue(set.contains(key))
+        }
+        assertFalse(set.contains(Long.MAX_VALUE))
+        set.clear()
+        assertEquals(0, set.size())
+        assertFalse(set.contains(0L))
+    }
+}